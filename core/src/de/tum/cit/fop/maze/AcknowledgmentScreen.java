@@ -3,7 +3,7 @@
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
@@ -12,6 +12,7 @@
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import de.tum.cit.fop.maze.world.TextureManager;
 
 /**
  * The AcknowledgmentScreen class displays acknowledgments for the game.
@@ -28,7 +29,7 @@ public AcknowledgmentScreen(MazeRunnerGame game) {
 
         stage = new Stage(new ScreenViewport());
 
-        backgroundTexture = new Texture(Gdx.files.internal("assets/images/2.png"));
+        backgroundTexture = TextureManager.acquire(TextureManager.MENU_BACKGROUND);
 
         Table table = new Table();
         table.setFillParent(true);
@@ -59,7 +60,7 @@ public void changed(ChangeEvent event, Actor actor) {
     /**
      * The background image.
      */
-    private final Texture backgroundTexture;
+    private TextureRegion backgroundTexture;
 
     /**
      * Reference for the current running game.
@@ -114,7 +115,10 @@ public void resize(int width, int height) {
     @Override
     public void dispose() {
         stage.dispose();
-        backgroundTexture.dispose();
+        if (backgroundTexture != null) {
+            TextureManager.release(TextureManager.MENU_BACKGROUND);
+            backgroundTexture = null;
+        }
     }
 
     @Override
@@ -4,7 +4,9 @@
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.utils.StringBuilder;
 import de.tum.cit.fop.maze.world.*;
+import java.util.ArrayList;
 import java.util.List;
 
 public class GameManager {
@@ -22,7 +24,9 @@ public class GameManager {
     private final GameMap gameMap;
     private final GameScreen gameScreen;
     private final MazeRunnerGame game;
-    private final List<Wall> walls;
+    private final CollisionGrid collisionGrid;
+    private final Navigator playerNavigator;
+    private final DistanceField exitDistances;
     private final Entrance entrance;
     private final List<Exit> exits;
     private final GameCharacter player;
@@ -36,12 +40,29 @@ public class GameManager {
     private final int sprintKeyCode;
     private final List<MorphTrap> morphTraps;
 
+    private final SpatialIndex<Key> keyIndex;
+    private final SpatialIndex<Heart> heartIndex;
+    private final SpatialIndex<Boost> boostIndex;
+    private final SpatialIndex<Trap> trapIndex;
+    private final SpatialIndex<MorphTrap> morphTrapIndex;
+    private final Broadphase<Enemy> enemyBroadphase;
+
+    private final List<Key> nearbyKeys;
+    private final List<Heart> nearbyHearts;
+    private final List<Boost> nearbyBoosts;
+    private final List<Trap> nearbyTraps;
+    private final List<MorphTrap> nearbyMorphTraps;
+    private final List<Enemy> nearbyEnemies;
+
     private boolean lose = false;
     public boolean win = false;
     private float timePlayed;
     private Label timer;
+    private final StringBuilder timerText = new StringBuilder(32);
+    private int displayedSeconds = -1;
 
     private boolean canSaveOrLoad = true;
+    private int enemyTick;
 
     public GameManager(
             GameMap gameMap,
@@ -49,7 +70,6 @@ public GameManager(
             GameScreen gameScreen,
             GameCharacter player,
             Hud hud,
-            List<Wall> walls,
             List<Enemy> enemies,
             List<Key> keys,
             List<Trap> traps,
@@ -66,7 +86,9 @@ public GameManager(
         this.gameScreen = gameScreen;
         this.player = player;
         this.hud = hud;
-        this.walls = walls;
+        this.collisionGrid = gameMap.getCollisionGrid();
+        this.playerNavigator = gameMap.getPlayerNavigator();
+        this.exitDistances = gameMap.getExitDistances();
         this.enemies = enemies;
         this.keys = keys;
         this.hearts = hearts;
@@ -78,6 +100,21 @@ public GameManager(
         this.sprintKeyCode = sprintKeyCode;
         this.morphTraps = morphTraps;
 
+        this.keyIndex = gameMap.getKeyIndex();
+        this.heartIndex = gameMap.getHeartIndex();
+        this.boostIndex = gameMap.getBoostIndex();
+        this.trapIndex = gameMap.getTrapIndex();
+        this.morphTrapIndex = gameMap.getMorphTrapIndex();
+        this.enemyBroadphase = gameMap.getEnemyBroadphase();
+
+        // Sized for all elements of the map, so querying the neighbourhood never grows them.
+        this.nearbyKeys = new ArrayList<>(keys.size());
+        this.nearbyHearts = new ArrayList<>(hearts.size());
+        this.nearbyBoosts = new ArrayList<>(boosts.size());
+        this.nearbyTraps = new ArrayList<>(traps.size());
+        this.nearbyMorphTraps = new ArrayList<>(morphTraps.size());
+        this.nearbyEnemies = new ArrayList<>(enemies.size());
+
         this.timePlayed = 0f;
 
         this.scoreManager = new ScoreManager();
@@ -110,19 +147,24 @@ public void update(float delta) {
             timePlayed += delta;
             updateTimerDisplay();
 
-            player.update(delta, walls);
-            exitArrow.update(player.getX(), player.getY(), exits);
+            player.update(delta, collisionGrid);
+            exitDistances.refresh();
+            exitArrow.update(player.getX(), player.getY(), exits, exitDistances);
 
             tryLockEntrance();
             tryUnlockExits();
 
-            enemies.forEach(e -> e.update(delta, walls, player));
-            traps.forEach(t -> t.update(delta));
+            updateEnemies(delta);
+            enemyBroadphase.update();
+            for (int i = 0; i < traps.size(); i++) {
+                traps.get(i).update(delta);
+            }
 
             handleObstacleInteractions();
             handleKeyCollection();
             handleHeartCollection();
             handleBoostCollection();
+            separateEnemies();
 
             tryWin();
             tryLose();
@@ -131,9 +173,11 @@ public void update(float delta) {
         boolean onMorphTrap = false;
         float px = player.getX();
         float py = player.getY();
-        for (MorphTrap trap : morphTraps) {
+        morphTrapIndex.queryNear(px, py, nearbyMorphTraps);
+        for (int i = 0; i < nearbyMorphTraps.size(); i++) {
+            MorphTrap trap = nearbyMorphTraps.get(i);
             if (!trap.isActive()) continue;
-            if (Math.abs(px - trap.getX()) < 0.5f && Math.abs(py - trap.getY()) < 0.5f) {
+            if (GameHelper.isAtCoordinate(px, py, trap)) {
                 if (!trap.isAffectingPlayer()) {
                     trap.trigger();
                     gameScreen.playSound("trap2");
@@ -217,7 +261,8 @@ public int calculateFinalScore() {
 
     public boolean tryWin() {
         if (win) return true;
-        for (Exit exit : exits) {
+        for (int i = 0; i < exits.size(); i++) {
+            Exit exit = exits.get(i);
             if (Math.abs(player.getX() - exit.getX()) < 0.2f &&
                     Math.abs(player.getY() - exit.getY()) < 0.2) {
                 winGame();
@@ -238,8 +283,10 @@ public boolean tryLose() {
     }
 
     private void handleObstacleInteractions() {
-        for (Trap trap : traps) {
-            if (trap.isActive() && GameHelper.isAtCoordinate(player.getX(), player.getY(), List.of(trap))) {
+        trapIndex.queryNear(player.getX(), player.getY(), nearbyTraps);
+        for (int i = 0; i < nearbyTraps.size(); i++) {
+            Trap trap = nearbyTraps.get(i);
+            if (trap.isActive() && GameHelper.isAtCoordinate(player.getX(), player.getY(), trap)) {
                 player.loseHearts(1);
                 trap.deactivate();
                 gameScreen.playSound("trap");
@@ -247,8 +294,10 @@ private void handleObstacleInteractions() {
             }
         }
 
-        for (Enemy enemy : enemies) {
-            if (enemy.isActive() && GameHelper.isAtCoordinate(player.getX(), player.getY(), List.of(enemy))) {
+        enemyBroadphase.queryBox(player.getX(), player.getY(), nearbyEnemies);
+        for (int i = 0; i < nearbyEnemies.size(); i++) {
+            Enemy enemy = nearbyEnemies.get(i);
+            if (enemy.isActive() && GameHelper.isAtCoordinate(player.getX(), player.getY(), enemy)) {
                 enemy.deactivate();
                 player.loseHearts(1);
 
@@ -261,10 +310,69 @@ private void handleObstacleInteractions() {
         }
     }
 
+    /**
+     * Updates the enemies depending on their distance to the player: every frame close by, every few frames
+     * farther out and not at all beyond {@link Constants#enemySleepDistance}. Skipped time is caught up on later.
+     * The throttled enemies are spread over the frames, so the cost does not spike.
+     *
+     * @param delta The time elapsed since the last frame.
+     */
+    private void updateEnemies(float delta) {
+        playerNavigator.setTarget(Math.round(player.getX()), Math.round(player.getY()));
+        float fullRate = Constants.enemyFullRateDistance * Constants.enemyFullRateDistance;
+        float sleep = Constants.enemySleepDistance * Constants.enemySleepDistance;
+        enemyTick++;
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            float dx = enemy.getX() - player.getX();
+            float dy = enemy.getY() - player.getY();
+            float distance = dx * dx + dy * dy;
+            if (distance > sleep
+                    || distance > fullRate && (enemyTick + i) % Constants.enemyThrottledTickInterval != 0) {
+                enemy.defer(delta);
+            } else {
+                enemy.update(delta, collisionGrid, playerNavigator, player);
+            }
+        }
+    }
+
+    /**
+     * Pushes apart active enemies that came closer than {@link Constants#enemySeparationDistance}.
+     * Only pairs sharing a broadphase cell are compared, each of them exactly once.
+     */
+    private void separateEnemies() {
+        float minDistance = Constants.enemySeparationDistance;
+        for (int c = 0; c < enemyBroadphase.getOccupiedCellCount(); c++) {
+            int cell = enemyBroadphase.getOccupiedCell(c);
+            for (int a = enemyBroadphase.firstEntry(cell); a != -1; a = enemyBroadphase.nextEntry(a)) {
+                Enemy first = enemyBroadphase.elementOf(a);
+                for (int b = enemyBroadphase.nextEntry(a); b != -1; b = enemyBroadphase.nextEntry(b)) {
+                    Enemy second = enemyBroadphase.elementOf(b);
+                    if (enemyBroadphase.pairCell(first, second) != cell) continue;
+                    float dx = second.getX() - first.getX();
+                    float dy = second.getY() - first.getY();
+                    if (Math.abs(dx) >= minDistance || Math.abs(dy) >= minDistance) continue;
+                    if (Math.abs(dx) >= Math.abs(dy)) {
+                        float push = (minDistance - Math.abs(dx)) / 2 * (dx < 0 ? -1 : 1);
+                        first.shift(-push, 0, collisionGrid);
+                        second.shift(push, 0, collisionGrid);
+                    } else {
+                        float push = (minDistance - Math.abs(dy)) / 2 * (dy < 0 ? -1 : 1);
+                        first.shift(0, -push, collisionGrid);
+                        second.shift(0, push, collisionGrid);
+                    }
+                }
+            }
+        }
+    }
+
     private void handleKeyCollection() {
-        for (Key key : keys) {
-            if (!key.isCollected() && GameHelper.isAtCoordinate(player.getX(), player.getY(), List.of(key))) {
+        keyIndex.queryNear(player.getX(), player.getY(), nearbyKeys);
+        for (int i = 0; i < nearbyKeys.size(); i++) {
+            Key key = nearbyKeys.get(i);
+            if (!key.isCollected() && GameHelper.isAtCoordinate(player.getX(), player.getY(), key)) {
                 key.collect();
+                gameMap.updateKeyDistances();
                 gameScreen.playSound("key");
                 hud.animateKeyCollection();
                 return;
@@ -273,8 +381,10 @@ private void handleKeyCollection() {
     }
 
     private void handleHeartCollection() {
-        for (Heart heart : hearts) {
-            if (!heart.isCollected() && GameHelper.isAtCoordinate(player.getX(), player.getY(), List.of(heart))) {
+        heartIndex.queryNear(player.getX(), player.getY(), nearbyHearts);
+        for (int i = 0; i < nearbyHearts.size(); i++) {
+            Heart heart = nearbyHearts.get(i);
+            if (!heart.isCollected() && GameHelper.isAtCoordinate(player.getX(), player.getY(), heart)) {
                 heart.collect();
                 player.collectHeart();
 
@@ -288,8 +398,10 @@ private void handleHeartCollection() {
     }
 
     private void handleBoostCollection() {
-        for (Boost boost : boosts) {
-            if (!boost.isCollected() && GameHelper.isAtCoordinate(player.getX(), player.getY(), List.of(boost))) {
+        boostIndex.queryNear(player.getX(), player.getY(), nearbyBoosts);
+        for (int i = 0; i < nearbyBoosts.size(); i++) {
+            Boost boost = nearbyBoosts.get(i);
+            if (!boost.isCollected() && GameHelper.isAtCoordinate(player.getX(), player.getY(), boost)) {
                 boost.collect();
                 player.boostWalking();
                 gameScreen.playSound("boost");
@@ -300,19 +412,20 @@ private void handleBoostCollection() {
 
     private void tryLockEntrance() {
         if (entrance.isUnlocked() &&
-                !GameHelper.isAtCoordinate(player.getX(), player.getY(), List.of(entrance))) {
+                !GameHelper.isAtCoordinate(player.getX(), player.getY(), entrance)) {
             entrance.lock();
-            walls.add(entrance);
+            gameMap.setDoorSolid(entrance, true);
         }
     }
 
     private void tryUnlockExits() {
-        for (Key key : keys) {
-            if (key.isCollected()) {
-                for (Exit exit : exits) {
+        for (int i = 0; i < keys.size(); i++) {
+            if (keys.get(i).isCollected()) {
+                for (int j = 0; j < exits.size(); j++) {
+                    Exit exit = exits.get(j);
                     if (exit.isLocked()) {
                         exit.unlock();
-                        walls.remove(exit);
+                        gameMap.setDoorSolid(exit, false);
                     }
                 }
                 return;
@@ -320,16 +433,22 @@ private void tryUnlockExits() {
         }
     }
 
-    private String formatTime(float seconds) {
-        int minutes = (int) seconds / 60;
-        int secs = (int) seconds % 60;
-        return String.format("Time Played: %d:%02d min", minutes, secs);
+    private void formatTime(int seconds, StringBuilder out) {
+        int minutes = seconds / 60;
+        int secs = seconds % 60;
+        out.setLength(0);
+        out.append("Time Played: ").append(minutes).append(':');
+        if (secs < 10) out.append('0');
+        out.append(secs).append(" min");
     }
 
     private void updateTimerDisplay() {
-        if (timer != null) {
-            timer.setText(formatTime(timePlayed));
-        }
+        if (timer == null) return;
+        int seconds = (int) timePlayed;
+        if (seconds == displayedSeconds) return;
+        displayedSeconds = seconds;
+        formatTime(seconds, timerText);
+        timer.setText(timerText);
     }
 
     private void setupTimer() {
@@ -457,17 +576,28 @@ public void requestLoadGameState() {
         this.totalEnemiesKilled = prefs.getInteger("savedTotalEnemies", 0);
 
         restoreMapElements(keys, prefs.getString("keyData", ""));
+        gameMap.updateKeyDistances();
         restoreMapElements(enemies, prefs.getString("enemyData", ""));
         restoreMapElements(hearts, prefs.getString("heartData", ""));
         restoreMapElements(boosts, prefs.getString("boostData", ""));
         restoreMapElements(traps, prefs.getString("trapData", ""));
         restoreMapElements(morphTraps, prefs.getString("morphTrapData", ""));
+        rebuildSpatialIndices();
 
         tryUnlockExits();
         hud.update();
         Gdx.app.log("GameManager", "Spielstand geladen: Alle Positionen & Scores korrigiert!");
     }
 
+    private void rebuildSpatialIndices() {
+        keyIndex.rebuild();
+        heartIndex.rebuild();
+        boostIndex.rebuild();
+        trapIndex.rebuild();
+        morphTrapIndex.rebuild();
+        enemyBroadphase.update();
+    }
+
     private void restoreMapElements(List<? extends MapElement> list, String data) {
         if (data == null || data.isEmpty()) return;
 
@@ -10,6 +10,7 @@
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import de.tum.cit.fop.maze.world.Enemy;
 import de.tum.cit.fop.maze.world.GameCharacter;
 import de.tum.cit.fop.maze.world.GameMap;
 import de.tum.cit.fop.maze.world.Hud;
@@ -29,10 +30,9 @@ public class GameScreen implements Screen, InputProcessor {
     private GameMap gameMap;
     private Hud hud;
     private GameCharacter player;
+    private LevelAudio audio;
     private Music backgroundMusic;
-
-    private Sound keySound, heartSound, boostSound, trapSound, enemySound, playerSound, trapSound2;
-    private Sound winScreenMusic, loseScreenMusic;
+    private float sfxVolume;
 
     private GameManager gameManager;
     private Texture endScreenTexture;
@@ -40,30 +40,24 @@ public class GameScreen implements Screen, InputProcessor {
 
     private boolean shouldLoadSave = false;
 
-    public GameScreen(MazeRunnerGame game, String mapLevel, boolean shouldLoadSave) {
+    public GameScreen(MazeRunnerGame game, LevelLoader.LoadedLevel level, boolean shouldLoadSave) {
         this.game = game;
-        this.originalMapLevel = mapLevel;
-        this.mapLevel = mapLevel;
+        this.originalMapLevel = level.getMapLevel();
+        this.mapLevel = level.getMapLevel();
 
         this.shouldLoadSave = shouldLoadSave;
 
         camera = new OrthographicCamera();
         camera.setToOrtho(false);
 
-        if ("INFINITE_MODE".equals(mapLevel)) {
+        if (LevelLoader.INFINITE_MODE.equals(mapLevel)) {
 
             this.gameMap = null;
             this.player = null;
 
-            String initialMapFile = InfiniteMapGenerator.generateInfiniteMap(20, 20, 5, 3, 2);
-            if (initialMapFile == null) {
-                Gdx.app.error("GameScreen", "Failed to generate initial map in constructor. Cannot proceed.");
-                this.gameMap = new GameMap("maps/level-1.properties");
-            } else {
-                loadMapCore(initialMapFile);
-            }
+            loadMapCore(level);
         } else {
-            this.gameMap = new GameMap(mapLevel);
+            this.gameMap = new GameMap(level.getMapFile(), level.getTiles());
             var prefs = Gdx.app.getPreferences("MazeRunnerPrefs");
             int upKey = prefs.getInteger("key_up", Input.Keys.W);
             int downKey = prefs.getInteger("key_down", Input.Keys.S);
@@ -77,13 +71,13 @@ public GameScreen(MazeRunnerGame game, String mapLevel, boolean shouldLoadSave)
                 startX = 0;
                 startY = 0;
             }
-            setupAudio();
+            applyAudio(level.getAudio());
             player = new GameCharacter(startX, startY, upKey, downKey, leftKey, rightKey);
             gameMap.setPlayer(player);
             hud = new Hud(gameMap, new ScreenViewport());
             gameManager = new GameManager(
                     gameMap, game, this, player, hud,
-                    gameMap.getWalls(), gameMap.getEnemies(), gameMap.getKeys(),
+                    gameMap.getEnemies(), gameMap.getKeys(),
                     gameMap.getTraps(), gameMap.getEntrance(), gameMap.getExits(),
                     gameMap.getHearts(), gameMap.getBoosts(), gameMap.getMorphTraps(),
                     gameMap.getExitArrow(), sprintKey
@@ -150,7 +144,8 @@ public void render(float delta) {
                     if (!waitingForNextLevel) {
                         waitingForNextLevel = true;
                         waitTimer = WAIT_BEFORE_NEXT_LEVEL;
-                        if (winScreenMusic != null) winScreenMusic.play();
+                        Sound winSound = audio.getSound("winscreen");
+                        if (winSound != null) winSound.play();
                     }
 
                 } else {
@@ -170,23 +165,25 @@ public void render(float delta) {
         }
     }
 
-    private void loadMapCore(String mapFile) {
-        if (mapFile == null) {
-            Gdx.app.error("GameScreen", "Cannot load map: mapFile is null.");
-            return;
-        }
-
+    /**
+     * Builds the map of a level and everything played on it. If the map cannot be built, the game returns to the menu,
+     * which disposes this screen.
+     *
+     * @param level The loaded level.
+     * @return True if the map has been loaded, false if the game went back to the menu.
+     */
+    private boolean loadMapCore(LevelLoader.LoadedLevel level) {
+        String mapFile = level.getMapFile();
         GameMap newMap = null;
         try {
-            newMap = new GameMap(mapFile);
+            newMap = new GameMap(mapFile, level.getTiles());
         } catch (Exception e) {
             Gdx.app.error("GameScreen", "Failed to load map file: " + mapFile, e);
+            level.getAudio().dispose();
             game.goToMenu();
-            return;
+            return false;
         }
 
-        Music oldMusic = this.backgroundMusic;
-
         var prefs = Gdx.app.getPreferences("MazeRunnerPrefs");
         int upKey = prefs.getInteger("key_up", Input.Keys.W);
         int downKey = prefs.getInteger("key_down", Input.Keys.S);
@@ -208,8 +205,11 @@ private void loadMapCore(String mapFile) {
         }
         newMap.setPlayer(this.player);
 
-        setupAudio();
+        applyAudio(level.getAudio());
 
+        if (this.gameMap != null) {
+            this.gameMap.dispose();
+        }
         this.gameMap = newMap;
 
 
@@ -218,7 +218,7 @@ private void loadMapCore(String mapFile) {
 
         this.gameManager = new GameManager(
                 this.gameMap, game, this, this.player, this.hud,
-                this.gameMap.getWalls(), this.gameMap.getEnemies(), this.gameMap.getKeys(),
+                this.gameMap.getEnemies(), this.gameMap.getKeys(),
                 this.gameMap.getTraps(), this.gameMap.getEntrance(), this.gameMap.getExits(),
                 this.gameMap.getHearts(), this.gameMap.getBoosts(), this.gameMap.getMorphTraps(),
                 this.gameMap.getExitArrow(), sprintKey
@@ -226,22 +226,28 @@ private void loadMapCore(String mapFile) {
 
         this.hud.update();
 
-        if (oldMusic != null && oldMusic != this.backgroundMusic) { // 确保不是同一个对象
-            oldMusic.stop();
-            oldMusic.dispose();
-        }
-
         this.showingEndScreen = false;
         this.waitingForNextLevel = false;
         this.waitTimer = 0f;
 
         System.out.println("GameScreen: Reloaded map from " + mapFile);
+        return true;
     }
 
-    public void reloadFromNewMap(String newMapPath) {
-        loadMapCore(newMapPath);
+    /**
+     * Replaces the current map with the next level.
+     *
+     * @param level The loaded level.
+     * @return True if the level has been loaded, false if it failed and the game went back to the menu,
+     * disposing this screen.
+     */
+    public boolean reloadFromLevel(LevelLoader.LoadedLevel level) {
+        if (!loadMapCore(level)) {
+            return false;
+        }
         updateCamera(); // 确保相机跟随玩家
-        System.out.println("GameScreen: Received command to reload from " + newMapPath);
+        System.out.println("GameScreen: Received command to reload from " + level.getMapFile());
+        return true;
     }
 
 
@@ -270,6 +276,7 @@ public void show() {
                 backgroundMusic.play();
             }
         }
+        applySfxVolume();
     }
 
     public void showEndScreen(String imagePath) {
@@ -284,59 +291,40 @@ public void showEndScreen(String imagePath) {
         }
     }
 
-    private void setupAudio() {
-        if (backgroundMusic != null) {
-            backgroundMusic.stop();
-            backgroundMusic.dispose();
-        }
-        switch (mapLevel) {
-            case "maps/level-1.properties":
-                backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("assets/sounds/level1.mp3"));
-                break;
-            case "maps/level-2.properties":
-                backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("assets/sounds/level2.mp3"));
-                break;
-            case "maps/level-3.properties":
-                backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("assets/sounds/level3.mp3"));
-                break;
-            default:
-                backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("assets/sounds/level3.mp3"));
-                break;
-        }
+    /**
+     * Switches to the audio of a newly loaded level and starts its music.
+     * The audio of the previous level is disposed.
+     *
+     * @param newAudio The audio decoded by the {@link LevelLoader}.
+     */
+    private void applyAudio(LevelAudio newAudio) {
+        LevelAudio oldAudio = audio;
+        audio = newAudio;
+        backgroundMusic = newAudio.getBackgroundMusic();
         var prefs = Gdx.app.getPreferences("MazeRunnerPrefs");
         float savedMusicVolume = prefs.getFloat("music_volume", 0.5f);
         backgroundMusic.setVolume(savedMusicVolume);
         backgroundMusic.setLooping(true);
         backgroundMusic.play();
+        applySfxVolume();
 
-        winScreenMusic = Gdx.audio.newSound(Gdx.files.internal("assets/sounds/gamewin.mp3"));
-        loseScreenMusic = Gdx.audio.newSound(Gdx.files.internal("assets/sounds/gameover.mp3"));
+        if (oldAudio != null && oldAudio != newAudio) {
+            oldAudio.dispose();
+        }
+    }
 
-        keySound = Gdx.audio.newSound(Gdx.files.internal("assets/sounds/key.mp3"));
-        heartSound = Gdx.audio.newSound(Gdx.files.internal("assets/sounds/heart.mp3"));
-        boostSound = Gdx.audio.newSound(Gdx.files.internal("assets/sounds/boostSpeed.mp3"));
-        trapSound = Gdx.audio.newSound(Gdx.files.internal("assets/sounds/fire.mp3"));
-        enemySound = Gdx.audio.newSound(Gdx.files.internal("assets/sounds/enemy.mp3"));
-        playerSound = Gdx.audio.newSound(Gdx.files.internal("assets/sounds/player.mp3"));
-        trapSound2 = Gdx.audio.newSound(Gdx.files.internal("assets/sounds/trap2.mp3"));
+    /**
+     * Reads the sound effect volume from the settings, which may have changed while the game was paused.
+     * Kept in a field, so playing a sound does not parse the preferences in the middle of a frame.
+     */
+    private void applySfxVolume() {
+        sfxVolume = Gdx.app.getPreferences("MazeRunnerPrefs").getFloat("sfx_volume", 0.5f);
+        Enemy.setProximitySoundVolume(sfxVolume);
     }
 
     public void playSound(String soundName) {
-        Sound sound = switch (soundName) {
-            case "key" -> keySound;
-            case "heart" -> heartSound;
-            case "boost" -> boostSound;
-            case "trap" -> trapSound;
-            case "enemy" -> enemySound;
-            case "player" -> playerSound;
-            case "winscreen" -> winScreenMusic;
-            case "losescreen" -> loseScreenMusic;
-            case "trap2" -> trapSound2;
-            default -> null;
-        };
+        Sound sound = audio != null ? audio.getSound(soundName) : null;
         if (sound != null) {
-            var prefs = Gdx.app.getPreferences("MazeRunnerPrefs");
-            float sfxVolume = prefs.getFloat("sfx_volume", 0.5f);
             sound.play(sfxVolume);
         }
     }
@@ -363,6 +351,8 @@ private void updateCamera() {
 
     private void renderGameWorld(float delta) {
         game.getSpriteBatch().setProjectionMatrix(camera.combined);
+        gameMap.setView(camera);
+        gameMap.renderStaticLayer(camera.combined);
         game.getSpriteBatch().begin();
         gameMap.render(game.getSpriteBatch(), delta);
         game.getSpriteBatch().end();
@@ -377,6 +367,16 @@ public void dispose() {
         if (endScreenTexture != null) {
             endScreenTexture.dispose();
         }
+        if (gameMap != null) {
+            gameMap.dispose();
+        }
+        if (player != null) {
+            player.dispose();
+        }
+        if (audio != null) {
+            audio.dispose();
+            audio = null;
+        }
     }
 
     @Override
@@ -401,6 +401,10 @@ public GameManager getGameManager() {
         return gameManager;
     }
 
+    public GameMap getGameMap() {
+        return gameMap;
+    }
+
     @Override
     public boolean keyDown(int keycode) {
         if (keycode == Input.Keys.ESCAPE) {
@@ -3,7 +3,7 @@
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -13,13 +13,14 @@
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import java.util.List;
+import de.tum.cit.fop.maze.world.TextureManager;
 
 public class LeaderboardScreen implements Screen {
     private final MazeRunnerGame game;
     private final Stage stage;
     private final Table table;
     private final Image background;
-    private final Texture backgroundTexture;
+    private TextureRegion backgroundTexture;
 
     public LeaderboardScreen(MazeRunnerGame game) {
         this.game = game;
@@ -27,7 +28,7 @@ public LeaderboardScreen(MazeRunnerGame game) {
         this.table = new Table();
         this.table.setFillParent(true);
 
-        this.backgroundTexture = new Texture(Gdx.files.internal("assets/images/2.png"));
+        this.backgroundTexture = TextureManager.acquire(TextureManager.MENU_BACKGROUND);
         this.background = new Image(backgroundTexture);
         stage.addActor(background);
         stage.addActor(table);
@@ -97,7 +98,8 @@ public void resume() {}
     @Override
     public void dispose() {
         if (backgroundTexture != null) {
-            backgroundTexture.dispose();
+            TextureManager.release(TextureManager.MENU_BACKGROUND);
+            backgroundTexture = null;
         }
         if (stage != null) {
             stage.dispose();
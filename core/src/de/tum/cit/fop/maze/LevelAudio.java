@@ -0,0 +1,77 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * The background music and sound effects of a level.
+ * They are created by the {@link LevelLoader} off the render thread, so decoding the sounds does not freeze the game.
+ */
+public class LevelAudio implements Disposable {
+
+    /**
+     * Constructor for class {@code LevelAudio}. Decodes the music and sound effects for the given level.
+     *
+     * @param mapLevel The level as passed to the game screen, e.g. a map file or {@code INFINITE_MODE}.
+     */
+    public LevelAudio(String mapLevel) {
+        String music = switch (mapLevel) {
+            case "maps/level-1.properties" -> "assets/sounds/level1.mp3";
+            case "maps/level-2.properties" -> "assets/sounds/level2.mp3";
+            default -> "assets/sounds/level3.mp3";
+        };
+        backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal(music));
+
+        addSound("winscreen", "assets/sounds/gamewin.mp3");
+        addSound("losescreen", "assets/sounds/gameover.mp3");
+        addSound("key", "assets/sounds/key.mp3");
+        addSound("heart", "assets/sounds/heart.mp3");
+        addSound("boost", "assets/sounds/boostSpeed.mp3");
+        addSound("trap", "assets/sounds/fire.mp3");
+        addSound("enemy", "assets/sounds/enemy.mp3");
+        addSound("player", "assets/sounds/player.mp3");
+        addSound("trap2", "assets/sounds/trap2.mp3");
+    }
+
+    /**
+     * The music looping while the level is played.
+     */
+    private final Music backgroundMusic;
+
+    /**
+     * The sound effects by name.
+     */
+    private final ObjectMap<String, Sound> sounds = new ObjectMap<>();
+
+
+    private void addSound(String name, String path) {
+        sounds.put(name, Gdx.audio.newSound(Gdx.files.internal(path)));
+    }
+
+    public Music getBackgroundMusic() {
+        return backgroundMusic;
+    }
+
+    /**
+     * Gets a sound effect.
+     *
+     * @param name The name of the sound, e.g. {@code "key"}.
+     * @return The sound, or null if there is no sound with this name.
+     */
+    public Sound getSound(String name) {
+        return sounds.get(name);
+    }
+
+    @Override
+    public void dispose() {
+        backgroundMusic.stop();
+        backgroundMusic.dispose();
+        for (Sound sound : sounds.values()) {
+            sound.dispose();
+        }
+        sounds.clear();
+    }
+}
@@ -0,0 +1,137 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import de.tum.cit.fop.maze.world.LevelCache;
+import de.tum.cit.fop.maze.world.TileGrid;
+
+/**
+ * Runs the background phase of loading a level: generating the map in infinite mode,
+ * reading and parsing the map file and decoding the audio. Everything touching OpenGL
+ * (building the world and uploading textures) is left to the render thread.
+ */
+public class LevelLoader implements Disposable {
+
+    /**
+     * The level name requesting a freshly generated map.
+     */
+    public static final String INFINITE_MODE = "INFINITE_MODE";
+
+    /**
+     * Constructor for class {@code LevelLoader}. Starts loading right away.
+     *
+     * @param mapLevel The level to load: a map file or {@link #INFINITE_MODE}.
+     */
+    public LevelLoader(String mapLevel) {
+        this.mapLevel = mapLevel;
+        this.result = executor.submit(this::load);
+    }
+
+    /**
+     * The level to load.
+     */
+    private final String mapLevel;
+
+    /**
+     * The thread the level is loaded on.
+     */
+    private final AsyncExecutor executor = new AsyncExecutor(1, "LevelLoader");
+
+    /**
+     * The pending result.
+     */
+    private final AsyncResult<LoadedLevel> result;
+
+    /**
+     * The share of the background phase done, between 0 and 1.
+     */
+    private volatile float progress;
+
+
+    private LoadedLevel load() {
+        String mapFile = mapLevel;
+        if (INFINITE_MODE.equals(mapLevel)) {
+            mapFile = InfiniteMapGenerator.generateInfiniteMap(20, 20, 5, 3, 2);
+            if (mapFile == null) {
+                throw new IllegalStateException("Failed to generate an infinite map");
+            }
+        }
+        progress = 0.2f;
+        TileGrid tiles = LevelCache.load(mapFile);
+        progress = 0.5f;
+        LevelAudio audio = new LevelAudio(mapLevel);
+        progress = 1f;
+        return new LoadedLevel(mapLevel, mapFile, tiles, audio);
+    }
+
+    public float getProgress() {
+        return progress;
+    }
+
+    /**
+     * Checks whether the background phase has finished, successfully or not.
+     *
+     * @return True if {@link #get()} returns without waiting.
+     */
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    /**
+     * Gets the loaded level, waiting for the background phase if necessary.
+     *
+     * @return The loaded level.
+     * @throws com.badlogic.gdx.utils.GdxRuntimeException If loading failed.
+     */
+    public LoadedLevel get() {
+        return result.get();
+    }
+
+    @Override
+    public void dispose() {
+        executor.dispose();
+    }
+
+    /**
+     * The result of the background phase, ready to be turned into a {@link GameScreen} on the render thread.
+     */
+    public static class LoadedLevel {
+
+        /**
+         * Constructor for class {@code LoadedLevel}.
+         *
+         * @param mapLevel The level as requested.
+         * @param mapFile  The map file that has been loaded.
+         * @param tiles    The tiles of the map.
+         * @param audio    The decoded audio of the level.
+         */
+        public LoadedLevel(String mapLevel, String mapFile, TileGrid tiles, LevelAudio audio) {
+            this.mapLevel = mapLevel;
+            this.mapFile = mapFile;
+            this.tiles = tiles;
+            this.audio = audio;
+        }
+
+        private final String mapLevel;
+        private final String mapFile;
+        private final TileGrid tiles;
+        private final LevelAudio audio;
+
+        public String getMapLevel() {
+            return mapLevel;
+        }
+
+        public String getMapFile() {
+            return mapFile;
+        }
+
+        public TileGrid getTiles() {
+            return tiles;
+        }
+
+        public LevelAudio getAudio() {
+            return audio;
+        }
+    }
+}
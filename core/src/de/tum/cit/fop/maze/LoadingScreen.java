@@ -0,0 +1,120 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+import java.util.function.Consumer;
+import de.tum.cit.fop.maze.world.TextureManager;
+
+/**
+ * The LoadingScreen class shows a progress bar while a {@link LevelLoader} loads a level in the background.
+ * Once the background phase is done, the loaded level is handed to a callback on the render thread,
+ * which builds the world and switches to the game.
+ */
+public class LoadingScreen implements Screen {
+
+    private final MazeRunnerGame game;
+    private final Stage stage;
+    private TextureRegion backgroundTexture;
+    private final ProgressBar progressBar;
+    private final LevelLoader loader;
+    private final Consumer<LevelLoader.LoadedLevel> onLoaded;
+    private boolean finished = false;
+
+    /**
+     * Constructor for {@code LoadingScreen}. Starts loading the level right away.
+     *
+     * @param game     The main game class, used to access global resources and methods.
+     * @param mapLevel The level to load: a map file or {@link LevelLoader#INFINITE_MODE}.
+     * @param onLoaded Called on the render thread with the loaded level.
+     */
+    public LoadingScreen(MazeRunnerGame game, String mapLevel, Consumer<LevelLoader.LoadedLevel> onLoaded) {
+        this.game = game;
+        this.onLoaded = onLoaded;
+
+        OrthographicCamera camera = new OrthographicCamera();
+        Viewport viewport = new ScreenViewport(camera);
+        stage = new Stage(viewport, game.getSpriteBatch());
+
+        Table table = new Table();
+        table.setFillParent(true);
+        stage.addActor(table);
+
+        backgroundTexture = TextureManager.acquire(TextureManager.MENU_BACKGROUND);
+        table.setBackground(new Image(backgroundTexture).getDrawable());
+
+        table.add(new Label("Loading...", game.getSkin(), "title")).padBottom(80).row();
+        progressBar = new ProgressBar(0f, 1f, 0.01f, false, game.getSkin(), "default-horizontal");
+        table.add(progressBar).width(400).pad(10).row();
+
+        loader = new LevelLoader(mapLevel);
+    }
+
+    @Override
+    public void render(float delta) {
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        progressBar.setValue(loader.getProgress());
+        stage.act(Math.min(Gdx.graphics.getDeltaTime(), 1 / 30f));
+        stage.draw();
+
+        if (!finished && loader.isDone()) {
+            finished = true;
+            LevelLoader.LoadedLevel level;
+            try {
+                level = loader.get();
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error("LoadingScreen", "Failed to load level, returning to menu.", e);
+                dispose();
+                game.goToMenu();
+                return;
+            }
+            onLoaded.accept(level);
+            dispose();
+        }
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        stage.getViewport().update(width, height, true);
+    }
+
+    @Override
+    public void dispose() {
+        loader.dispose();
+        stage.dispose();
+        if (backgroundTexture != null) {
+            TextureManager.release(TextureManager.MENU_BACKGROUND);
+            backgroundTexture = null;
+        }
+    }
+
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+    }
+
+    @Override
+    public void hide() {
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+}
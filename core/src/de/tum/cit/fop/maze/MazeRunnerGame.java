@@ -32,7 +32,6 @@ public class MazeRunnerGame extends Game {
 
     private List<Integer> infiniteModeScores = new ArrayList<Integer>();
     private SpriteBatch spriteBatch;
-    private TextureManager textureManager;
     private Skin skin;
     private Viewport viewport;
     private Music currentBackgroundMusic;
@@ -63,7 +62,7 @@ public void create() {
         skin = new Skin(Gdx.files.internal("craft/craftacular-ui.json"));
         viewport = new FitViewport(16 * 32, 9 * 32);
         viewport.apply();
-        textureManager = new TextureManager();
+        TextureManager.acquireAtlas();
 
         this.totalScore = SaveSystem.loadTotalScore();
 
@@ -116,23 +115,32 @@ public void goToGame(String mapLevel) {
         goToGame(mapLevel, false);
     }
 
+    /**
+     * Loads a level behind a {@link LoadingScreen} and switches to it once it is ready.
+     *
+     * @param mapLevel The map file of the level, or {@code INFINITE_MODE}.
+     * @param loadSave Whether to restore the saved game after loading.
+     */
     public void goToGame(String mapLevel, boolean loadSave) {
         if (gameScreen != null) {
             gameScreen.dispose();
+            gameScreen = null;
         }
 
-        if (mapLevel.equals("INFINITE_MODE")) {
+        if (mapLevel.equals(LevelLoader.INFINITE_MODE)) {
             this.isInfiniteMode = true;
             this.infiniteLevelCounter = 1;
         } else {
             this.isInfiniteMode = false;
         }
 
-        this.gameScreen = new GameScreen(this, mapLevel, loadSave);
+        setScreen(new LoadingScreen(this, mapLevel, level -> {
+            this.gameScreen = new GameScreen(this, level, loadSave);
 
-        this.currentBackgroundMusic = gameScreen.getBackgroundMusic();
+            this.currentBackgroundMusic = gameScreen.getBackgroundMusic();
 
-        setScreen(gameScreen);
+            setScreen(gameScreen);
+        }));
 
         cleanupOtherScreens();
     }
@@ -146,14 +154,15 @@ public void goToNextInfiniteLevel() {
             infiniteLevelCounter++;
             new AchievementManager().onInfiniteLevelReached(infiniteLevelCounter);
 
-            String newMapFile = InfiniteMapGenerator.generateInfiniteMap(20, 20, 5, 3, 2);
-            if (newMapFile != null) {
-                gameScreen.reloadFromNewMap(newMapFile);
+            GameScreen screen = gameScreen;
+            setScreen(new LoadingScreen(this, LevelLoader.INFINITE_MODE, level -> {
+                // A failed reload goes back to the menu, which disposes the screen.
+                if (!screen.reloadFromLevel(level) || gameScreen != screen) {
+                    return;
+                }
                 this.currentInfiniteLevel++;
-            } else {
-                Gdx.app.error("MazeRunnerGame", "Failed to generate next infinite map, returning to menu.");
-                goToMenu();
-            }
+                setScreen(screen);
+            }));
         } else {
             Gdx.app.error("MazeRunnerGame", "No active GameScreen to load next level into.");
         }
@@ -217,11 +226,12 @@ private void cleanupOtherScreens() {
 
     @Override
     public void dispose() {
-        textureManager.dispose();
         if (getScreen() != null) {
             getScreen().hide();
             getScreen().dispose();
         }
+        TextureManager.releaseAtlas();
+        TextureManager.dispose();
         spriteBatch.dispose();
         skin.dispose();
 
@@ -21,11 +21,13 @@
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import de.tum.cit.fop.maze.world.TextureManager;
 
 public class MenuScreen implements Screen {
     private final MazeRunnerGame game;
     private final Stage stage;
     private final Music menuMusic;
+    private TextureRegion backgroundTexture;
 
     public MenuScreen(MazeRunnerGame game) {
         this.game = game;
@@ -61,7 +63,8 @@ private void setupUI() {
         float btnHeight = 75;
         float btnPad = 10;
 
-        Image backgroundImage = new Image(new Texture(Gdx.files.internal("assets/images/2.png")));
+        backgroundTexture = TextureManager.acquire(TextureManager.MENU_BACKGROUND);
+        Image backgroundImage = new Image(backgroundTexture);
         backgroundImage.setFillParent(true);
         stage.addActor(backgroundImage);
 
@@ -243,5 +246,9 @@ public void resume() {}
     public void dispose() {
         stage.dispose();
         menuMusic.dispose();
+        if (backgroundTexture != null) {
+            TextureManager.release(TextureManager.MENU_BACKGROUND);
+            backgroundTexture = null;
+        }
     }
 }
\ No newline at end of file
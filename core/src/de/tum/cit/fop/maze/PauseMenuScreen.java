@@ -5,7 +5,7 @@
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -15,6 +15,7 @@
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import de.tum.cit.fop.maze.world.TextureManager;
 
 /**
  * The PauseScreen class displays the pause menu during gameplay.
@@ -26,6 +27,7 @@ public class PauseMenuScreen implements Screen {
     private final GameScreen gameScreen;
     private final Stage stage;
     private Music pauseMusic;
+    private TextureRegion backgroundTexture;
 
     /**
      * Constructor for the {@code PauseScreen}.
@@ -60,7 +62,8 @@ private void setUpMenu() {
         table.center();
         stage.addActor(table);
 
-        Image backgroundImage = new Image(new Texture(Gdx.files.internal("assets/images/2.png")));
+        backgroundTexture = TextureManager.acquire(TextureManager.MENU_BACKGROUND);
+        Image backgroundImage = new Image(backgroundTexture);
         table.setBackground(backgroundImage.getDrawable());
 
         Label titleLabel = new Label("Pause Menu", game.getSkin(), "title");
@@ -158,6 +161,10 @@ public void hide() {
     @Override
     public void dispose() {
         stage.dispose();
+        if (backgroundTexture != null) {
+            TextureManager.release(TextureManager.MENU_BACKGROUND);
+            backgroundTexture = null;
+        }
         if (pauseMusic != null) {
             pauseMusic.stop();
             pauseMusic.dispose();
@@ -2,9 +2,12 @@
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -12,8 +15,19 @@
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import de.tum.cit.fop.maze.world.MapThumbnail;
+import games.spooky.gdx.nativefilechooser.NativeFileChooserCallback;
+import games.spooky.gdx.nativefilechooser.NativeFileChooserConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import de.tum.cit.fop.maze.world.TextureManager;
 
 /**
  * The SelectMapScreen class allows the player to select a map/level to play.
@@ -24,6 +38,26 @@ public class SelectMapScreen implements Screen {
     private final MazeRunnerGame game;
     private final boolean calledFromPause;
     private final Stage stage;
+    private final Table levels;
+    private TextureRegion backgroundTexture;
+
+    /**
+     * Renders the map thumbnails in the background, so the screen shows up right away.
+     */
+    private final AsyncExecutor thumbnailExecutor = new AsyncExecutor(1, "MapThumbnails");
+
+    /**
+     * Thumbnails still being rendered, with the images they are shown in.
+     */
+    private final List<AsyncResult<Pixmap>> pendingThumbnails = new ArrayList<>();
+    private final List<Image> pendingImages = new ArrayList<>();
+
+    /**
+     * The textures of the thumbnails shown so far.
+     */
+    private final List<Texture> thumbnailTextures = new ArrayList<>();
+
+    private static final float THUMBNAIL_SIZE = 64;
 
     private static final String MAP_LEVEL_1 = "maps/level-1.properties";
     private static final String MAP_LEVEL_2 = "maps/level-2.properties";
@@ -54,34 +88,33 @@ public SelectMapScreen(MazeRunnerGame game, boolean calledFromPause) {
         stage.addActor(table);
 
 
-        Image backgroundImage = new Image(new Texture(Gdx.files.internal("assets/images/2.png")));
+        backgroundTexture = TextureManager.acquire(TextureManager.MENU_BACKGROUND);
+        Image backgroundImage = new Image(backgroundTexture);
         table.setBackground(backgroundImage.getDrawable());
 
 
         table.add(new Label("Select Level", game.getSkin(), "title")).padBottom(80).row();
 
 
-        TextButton level1 = new TextButton("1", game.getSkin());
-        TextButton level2 = new TextButton("2", game.getSkin());
-        TextButton level3 = new TextButton("3", game.getSkin());
-        TextButton level4 = new TextButton("4", game.getSkin());
-        TextButton level5 = new TextButton("5", game.getSkin());
-        TextButton back = new TextButton("Back", game.getSkin());
-
+        levels = new Table();
+        table.add(levels).row();
+        addLevel("1", MAP_LEVEL_1);
+        addLevel("2", MAP_LEVEL_2);
+        addLevel("3", MAP_LEVEL_3);
+        addLevel("4", MAP_LEVEL_4);
+        addLevel("5", MAP_LEVEL_5);
 
-        table.add(level1).width(400).pad(10).row();
-        table.add(level2).width(400).pad(10).row();
-        table.add(level3).width(400).pad(10).row();
-        table.add(level4).width(400).pad(10).row();
-        table.add(level5).width(400).pad(10).row();
+        TextButton custom = new TextButton("Custom Map", game.getSkin());
+        TextButton back = new TextButton("Back", game.getSkin());
+        table.add(custom).width(400).pad(10).row();
         table.add(back).width(400).pad(10).row();
 
-
-        level1.addListener(createLevelButtonListener(MAP_LEVEL_1));
-        level2.addListener(createLevelButtonListener(MAP_LEVEL_2));
-        level3.addListener(createLevelButtonListener(MAP_LEVEL_3));
-        level4.addListener(createLevelButtonListener(MAP_LEVEL_4));
-        level5.addListener(createLevelButtonListener(MAP_LEVEL_5));
+        custom.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                chooseCustomMap();
+            }
+        });
 
 
         back.addListener(new ChangeListener() {
@@ -97,6 +130,67 @@ public void changed(ChangeEvent event, Actor actor) {
         });
     }
 
+    /**
+     * Adds a button for a level to the list, with its thumbnail next to it once it has been rendered.
+     *
+     * @param name    The name shown on the button.
+     * @param mapFile The path to the map file of the level.
+     */
+    private void addLevel(String name, String mapFile) {
+        TextButton button = new TextButton(name, game.getSkin());
+        button.addListener(createLevelButtonListener(mapFile));
+        Image thumbnail = new Image();
+        levels.add(button).width(400).pad(10);
+        levels.add(thumbnail).size(THUMBNAIL_SIZE).pad(10).row();
+
+        pendingThumbnails.add(thumbnailExecutor.submit(() -> MapThumbnail.load(mapFile)));
+        pendingImages.add(thumbnail);
+    }
+
+    /**
+     * Opens the native file chooser to pick a map file from anywhere on disk and adds it to the list.
+     */
+    private void chooseCustomMap() {
+        NativeFileChooserConfiguration configuration = new NativeFileChooserConfiguration();
+        configuration.directory = Gdx.files.absolute(System.getProperty("user.home"));
+        configuration.nameFilter = (dir, name) -> name.endsWith(".properties") || name.endsWith(".maze");
+        configuration.title = "Choose a map";
+        game.getFileChooser().chooseFile(configuration, new NativeFileChooserCallback() {
+            @Override
+            public void onFileChosen(FileHandle file) {
+                Gdx.app.postRunnable(() -> addLevel(file.nameWithoutExtension(), file.path()));
+            }
+
+            @Override
+            public void onCancellation() {
+            }
+
+            @Override
+            public void onError(Exception exception) {
+                Gdx.app.error("SelectMapScreen", "Failed to choose a map file", exception);
+            }
+        });
+    }
+
+    /**
+     * Shows the thumbnails that have been rendered since the last frame.
+     */
+    private void showFinishedThumbnails() {
+        for (int i = pendingThumbnails.size() - 1; i >= 0; i--) {
+            if (!pendingThumbnails.get(i).isDone()) continue;
+            Image image = pendingImages.remove(i);
+            try {
+                Pixmap pixmap = pendingThumbnails.remove(i).get();
+                Texture texture = new Texture(pixmap);
+                pixmap.dispose();
+                thumbnailTextures.add(texture);
+                image.setDrawable(new TextureRegionDrawable(texture));
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error("SelectMapScreen", "Failed to render a map thumbnail", e);
+            }
+        }
+    }
+
     /**
      * Helper method to create a ChangeListener for a specific level.
      * This avoids code duplication in the constructor.
@@ -119,6 +213,7 @@ public void render(float delta) {
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        showFinishedThumbnails();
         stage.act(Math.min(Gdx.graphics.getDeltaTime(), 1 / 30f));
         stage.draw();
     }
@@ -130,7 +225,25 @@ public void resize(int width, int height) {
 
     @Override
     public void dispose() {
+        thumbnailExecutor.dispose();
+        for (int i = 0; i < pendingThumbnails.size(); i++) {
+            try {
+                pendingThumbnails.get(i).get().dispose();
+            } catch (GdxRuntimeException e) {
+                // The thumbnail failed, there is nothing to dispose of.
+            }
+        }
+        pendingThumbnails.clear();
+        pendingImages.clear();
+        for (int i = 0; i < thumbnailTextures.size(); i++) {
+            thumbnailTextures.get(i).dispose();
+        }
+        thumbnailTextures.clear();
         stage.dispose();
+        if (backgroundTexture != null) {
+            TextureManager.release(TextureManager.MENU_BACKGROUND);
+            backgroundTexture = null;
+        }
     }
 
     @Override
@@ -2,7 +2,7 @@
 
 import com.badlogic.gdx.*;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -11,12 +11,13 @@
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import de.tum.cit.fop.maze.world.TextureManager;
 
 public class SettingsScreen implements Screen {
 
     private final MazeRunnerGame game;
     private Stage stage;
-    private Texture backgroundTexture;
+    private TextureRegion backgroundTexture;
 
     private Slider musicSlider;
     private Slider sfxSlider;
@@ -41,7 +42,7 @@ public class SettingsScreen implements Screen {
     public SettingsScreen(MazeRunnerGame game) {
         this.game = game;
         this.stage = new Stage(new ScreenViewport());
-        this.backgroundTexture = new Texture(Gdx.files.internal("assets/images/2.png"));
+        this.backgroundTexture = TextureManager.acquire(TextureManager.MENU_BACKGROUND);
 
         var prefs = Gdx.app.getPreferences("MazeRunnerPrefs");
         float savedMusic = prefs.getFloat(PREF_MUSIC_VOLUME, 0.5f);
@@ -230,6 +231,9 @@ public void resize(int width, int height) {
     @Override public void hide() { Gdx.input.setInputProcessor(null); }
     @Override public void dispose() {
         if (stage != null) stage.dispose();
-        if (backgroundTexture != null) backgroundTexture.dispose();
+        if (backgroundTexture != null) {
+            TextureManager.release(TextureManager.MENU_BACKGROUND);
+            backgroundTexture = null;
+        }
     }
 }
\ No newline at end of file
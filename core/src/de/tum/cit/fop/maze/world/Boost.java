@@ -1,8 +1,5 @@
 package de.tum.cit.fop.maze.world;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
@@ -23,17 +20,17 @@ public Boost(float x, float y) {
     }
 
 
-    /**
-     * The texture for boost.
-     */
-    Texture btr;
-
     /**
      * The texture to be rendered.
      */
     private static TextureRegion boostTexture;
 
 
+    /**
+     * Whether this boost holds a reference to its texture in the {@link TextureManager}.
+     */
+    private boolean holdsTexture;
+
     /**
      * A property signifying whether the boost has been collected.
      */
@@ -67,33 +64,33 @@ public void collect() {
 
 
     /**
-     * Loads the texture.
+     * Acquires the texture.
      */
     private void loadBoostResources() {
-        btr = new Texture(Gdx.files.internal("images\\boost.png"));
-        boostTexture = new TextureRegion(btr, 0, 0, 16, 16);
+        boostTexture = TextureManager.acquire("boost");
+        holdsTexture = true;
     }
 
     /**
      * Renders the boost on the screen.
      *
-     * @param batch The {@code }SpriteBatch} used for rendering.
+     * @param queue The {@code RenderQueue} the sprite is submitted to.
      */
-    public void render(SpriteBatch batch) {
+    public void render(RenderQueue queue) {
         if (!collected) {
-            batch.draw(boostTexture, x * 32, y * 32, 32, 32);
+            queue.submit(RenderQueue.LAYER_ITEMS, boostTexture, x * 32, y * 32, 32, 32);
         }
     }
 
 
     /**
-     * Disposes of the texture resources used by the boost.
+     * Releases the texture of the boost. The shared texture stays in use by the HUD and other boosts.
      */
     @Override
     public void dispose() {
-        if (btr != null) {
-            btr.dispose();
+        if (holdsTexture) {
+            TextureManager.release("boost");
+            holdsTexture = false;
         }
-        boostTexture = null;
     }
 }
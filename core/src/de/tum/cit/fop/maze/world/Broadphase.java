@@ -0,0 +1,264 @@
+package de.tum.cit.fop.maze.world;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A uniform-grid broadphase for moving obstacles. Every active element is registered in each tile
+ * its one-tile box overlaps, so "who overlaps this cell" is answered without looking at other tiles.
+ * The grid is rebuilt every tick in linear time and without allocating.
+ *
+ * @param <T> The type of the tracked elements.
+ */
+public class Broadphase<T extends Obstacle> {
+
+    /**
+     * A one-tile box overlaps at most four tiles.
+     */
+    private static final int MAX_CELLS_PER_ELEMENT = 4;
+
+    /**
+     * Constructor for class {@code Broadphase}.
+     *
+     * @param elements The tracked elements. The list must not change size afterwards.
+     * @param width    The width of the map in tiles.
+     * @param height   The height of the map in tiles.
+     */
+    public Broadphase(List<T> elements, int width, int height) {
+        this.elements = elements;
+        this.width = Math.max(width, 1);
+        this.height = Math.max(height, 1);
+        this.cellHead = new int[this.width * this.height];
+        Arrays.fill(cellHead, -1);
+        int capacity = elements.size() * MAX_CELLS_PER_ELEMENT;
+        this.entryNext = new int[capacity];
+        this.entryElement = new int[capacity];
+        this.occupiedCells = new int[capacity];
+        this.queryStamp = new int[elements.size()];
+        update();
+    }
+
+    /**
+     * The tracked elements.
+     */
+    private final List<T> elements;
+
+    /**
+     * The width of the grid in tiles.
+     */
+    private final int width;
+
+    /**
+     * The height of the grid in tiles.
+     */
+    private final int height;
+
+    /**
+     * The first entry of every cell, or -1 if no element overlaps the cell.
+     */
+    private final int[] cellHead;
+
+    /**
+     * The next entry of the same cell, or -1 at the end of the cell.
+     */
+    private final int[] entryNext;
+
+    /**
+     * The index of the element an entry belongs to.
+     */
+    private final int[] entryElement;
+
+    /**
+     * The number of entries in use.
+     */
+    private int entryCount;
+
+    /**
+     * The cells holding at least one entry, so they can be cleared without touching the whole grid.
+     */
+    private final int[] occupiedCells;
+
+    /**
+     * The number of occupied cells.
+     */
+    private int occupiedCount;
+
+    /**
+     * The query an element was last reported in, used to report elements spanning several cells only once.
+     */
+    private final int[] queryStamp;
+
+    /**
+     * The current query number.
+     */
+    private int stamp;
+
+
+    /**
+     * Registers all active elements in the cells they currently overlap.
+     */
+    public void update() {
+        for (int i = 0; i < occupiedCount; i++) {
+            cellHead[occupiedCells[i]] = -1;
+        }
+        occupiedCount = 0;
+        entryCount = 0;
+
+        for (int i = 0; i < elements.size(); i++) {
+            T element = elements.get(i);
+            if (!element.isActive()) continue;
+            int fromX = clampX(firstCell(element.getX()));
+            int toX = clampX(lastCell(element.getX()));
+            int fromY = clampY(firstCell(element.getY()));
+            int toY = clampY(lastCell(element.getY()));
+            for (int cy = fromY; cy <= toY; cy++) {
+                for (int cx = fromX; cx <= toX; cx++) {
+                    insert(i, cy * width + cx);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects every tracked element whose box overlaps the one-tile box at the given position.
+     *
+     * @param x   The x position of the box.
+     * @param y   The y position of the box.
+     * @param out The list the found elements are written to. It is cleared first.
+     * @return The number of found elements.
+     */
+    public int queryBox(float x, float y, List<T> out) {
+        out.clear();
+        stamp++;
+        int fromX = clampX(firstCell(x));
+        int toX = clampX(lastCell(x));
+        int fromY = clampY(firstCell(y));
+        int toY = clampY(lastCell(y));
+        for (int cy = fromY; cy <= toY; cy++) {
+            for (int cx = fromX; cx <= toX; cx++) {
+                for (int entry = cellHead[cy * width + cx]; entry != -1; entry = entryNext[entry]) {
+                    int index = entryElement[entry];
+                    if (queryStamp[index] == stamp) continue;
+                    queryStamp[index] = stamp;
+                    out.add(elements.get(index));
+                }
+            }
+        }
+        return out.size();
+    }
+
+    /**
+     * Collects every tracked element overlapping a rectangle of tiles, e.g. the tiles visible to the camera.
+     *
+     * @param fromX The x coordinate of the leftmost tile.
+     * @param fromY The y coordinate of the lowest tile.
+     * @param toX   The x coordinate of the rightmost tile (inclusive).
+     * @param toY   The y coordinate of the highest tile (inclusive).
+     * @param out   The list the found elements are written to. It is cleared first.
+     * @return The number of found elements.
+     */
+    public int queryArea(int fromX, int fromY, int toX, int toY, List<T> out) {
+        out.clear();
+        stamp++;
+        for (int cy = Math.max(fromY, 0); cy <= Math.min(toY, height - 1); cy++) {
+            for (int cx = Math.max(fromX, 0); cx <= Math.min(toX, width - 1); cx++) {
+                for (int entry = cellHead[cy * width + cx]; entry != -1; entry = entryNext[entry]) {
+                    int index = entryElement[entry];
+                    if (queryStamp[index] == stamp) continue;
+                    queryStamp[index] = stamp;
+                    out.add(elements.get(index));
+                }
+            }
+        }
+        return out.size();
+    }
+
+    /**
+     * Gets the number of cells at least one element overlaps.
+     *
+     * @return The number of occupied cells.
+     */
+    public int getOccupiedCellCount() {
+        return occupiedCount;
+    }
+
+    /**
+     * Gets an occupied cell.
+     *
+     * @param i A number between 0 and {@link #getOccupiedCellCount()}.
+     * @return The cell, encoded as {@code y * width + x}.
+     */
+    public int getOccupiedCell(int i) {
+        return occupiedCells[i];
+    }
+
+    /**
+     * Gets the first entry of a cell.
+     *
+     * @param cell The cell, encoded as {@code y * width + x}.
+     * @return The first entry, or -1 if no element overlaps the cell.
+     */
+    public int firstEntry(int cell) {
+        return cellHead[cell];
+    }
+
+    /**
+     * Gets the entry following the given one in the same cell.
+     *
+     * @param entry The current entry.
+     * @return The next entry, or -1 at the end of the cell.
+     */
+    public int nextEntry(int entry) {
+        return entryNext[entry];
+    }
+
+    /**
+     * Gets the element an entry belongs to.
+     *
+     * @param entry The entry.
+     * @return The element.
+     */
+    public T elementOf(int entry) {
+        return elements.get(entryElement[entry]);
+    }
+
+    /**
+     * Calculates the cell responsible for a pair of overlapping boxes: the one holding the lower left corner
+     * of their intersection. Visiting a pair only in this cell reports every pair exactly once.
+     *
+     * @param a The first element.
+     * @param b The second element.
+     * @return The cell, encoded as {@code y * width + x}.
+     */
+    public int pairCell(MapElement a, MapElement b) {
+        int cx = clampX(firstCell(Math.max(a.getX(), b.getX())));
+        int cy = clampY(firstCell(Math.max(a.getY(), b.getY())));
+        return cy * width + cx;
+    }
+
+    private static int firstCell(float position) {
+        return (int) Math.floor(position);
+    }
+
+    private static int lastCell(float position) {
+        return (int) Math.ceil(position + 1) - 1;
+    }
+
+    private int clampX(int cellX) {
+        return Math.min(Math.max(cellX, 0), width - 1);
+    }
+
+    private int clampY(int cellY) {
+        return Math.min(Math.max(cellY, 0), height - 1);
+    }
+
+    private void insert(int index, int cell) {
+        if (cellHead[cell] == -1) {
+            occupiedCells[occupiedCount++] = cell;
+        }
+        entryElement[entryCount] = index;
+        entryNext[entryCount] = cellHead[cell];
+        cellHead[cell] = entryCount;
+        entryCount++;
+    }
+}
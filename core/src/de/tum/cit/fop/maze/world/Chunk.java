@@ -0,0 +1,171 @@
+package de.tum.cit.fop.maze.world;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+
+/**
+ * A square block of {@link #SIZE} × {@link #SIZE} tiles of the map.
+ * Floors and static walls are not objects: while the chunk is loaded, they are baked from the tile values
+ * in the {@link TileGrid} into a {@link SpriteCache}, which draws the whole chunk from the texture atlas in one call.
+ * The baked tiles never change while the level runs: doors (entrance and exits) are not baked but draw themselves
+ * every frame, so opening or closing one needs no rebuild. The cache is freed when the chunk is unloaded.
+ */
+public class Chunk {
+
+    /**
+     * The width and height of a chunk in tiles.
+     */
+    public static final int SIZE = 32;
+
+    /**
+     * The size of a tile in pixels.
+     */
+    private static final int TILE_SIZE = 32;
+
+    /**
+     * Constructor for class {@code Chunk}. The chunk starts out unloaded.
+     *
+     * @param tiles  The tiles of the whole map.
+     * @param chunkX The x coordinate of the chunk, in chunks.
+     * @param chunkY The y coordinate of the chunk, in chunks.
+     */
+    public Chunk(TileGrid tiles, int chunkX, int chunkY) {
+        this.tiles = tiles;
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+        this.startX = chunkX * SIZE;
+        this.startY = chunkY * SIZE;
+        this.endX = Math.min(startX + SIZE, tiles.getWidth());
+        this.endY = Math.min(startY + SIZE, tiles.getHeight());
+    }
+
+    /**
+     * The tiles of the whole map.
+     */
+    private final TileGrid tiles;
+
+    /**
+     * The x coordinate of the chunk, in chunks.
+     */
+    private final int chunkX;
+
+    /**
+     * The y coordinate of the chunk, in chunks.
+     */
+    private final int chunkY;
+
+    /**
+     * The tiles covered by the chunk, from the start (inclusive) to the end (exclusive).
+     */
+    private final int startX;
+    private final int startY;
+    private final int endX;
+    private final int endY;
+
+    /**
+     * The baked floors and walls while the chunk is loaded.
+     */
+    private SpriteCache cache;
+
+    /**
+     * The regions of the atlas the floors and walls are baked from while the chunk is loaded.
+     */
+    private TextureRegion floor;
+    private TextureRegion wall;
+
+    /**
+     * The id of the baked tiles in the {@link #cache}.
+     */
+    private int cacheId;
+
+
+    /**
+     * Bakes the floors and walls of the chunk into a sprite cache.
+     *
+     * @param shader The shader shared by the caches of all chunks.
+     * @param floor  The region of a floor tile.
+     * @param wall   The region of a wall tile.
+     */
+    public void load(ShaderProgram shader, TextureRegion floor, TextureRegion wall) {
+        if (isLoaded()) return;
+        this.floor = floor;
+        this.wall = wall;
+        cache = new SpriteCache(Math.max(countDrawnTiles(), 1), shader, true);
+        build();
+    }
+
+    /**
+     * Frees the sprite cache of the chunk.
+     */
+    public void unload() {
+        if (cache != null) {
+            cache.dispose();
+            cache = null;
+        }
+        floor = null;
+        wall = null;
+    }
+
+    public boolean isLoaded() {
+        return cache != null;
+    }
+
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkY() {
+        return chunkY;
+    }
+
+    /**
+     * Renders the floors and walls of the chunk if it is loaded.
+     * Must not be called between {@code begin()} and {@code end()} of a {@code SpriteBatch}.
+     *
+     * @param projection The projection matrix of the camera.
+     */
+    public void render(Matrix4 projection) {
+        if (!isLoaded()) return;
+        cache.setProjectionMatrix(projection);
+        cache.begin();
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.draw(cacheId);
+        cache.end();
+    }
+
+    /**
+     * Bakes the floors, then the walls. Both come from the texture atlas, so the cache is drawn without switching textures.
+     * Entrance tiles have no floor, the entrance draws itself.
+     */
+    private void build() {
+        cache.beginCache();
+        addTiles(floor, false);
+        addTiles(wall, true);
+        cacheId = cache.endCache();
+    }
+
+    private void addTiles(TextureRegion region, boolean walls) {
+        for (int y = startY; y < endY; y++) {
+            for (int x = startX; x < endX; x++) {
+                int tile = tiles.get(x, y);
+                if (tile == 1 || (tile == 0) != walls) continue;
+                cache.add(region, x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+            }
+        }
+    }
+
+    private int countDrawnTiles() {
+        int count = 0;
+        for (int y = startY; y < endY; y++) {
+            for (int x = startX; x < endX; x++) {
+                if (tiles.get(x, y) != 1) count++;
+            }
+        }
+        return count;
+    }
+}
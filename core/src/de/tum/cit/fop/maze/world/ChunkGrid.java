@@ -0,0 +1,182 @@
+package de.tum.cit.fop.maze.world;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The map split into {@link Chunk}s, of which only those around the camera are loaded and rendered.
+ * A loaded chunk keeps its floors and walls baked in a sprite cache, which stays valid for the whole level
+ * because doors are drawn with the other map elements instead of being baked.
+ * Chunks within {@link Constants#chunkLoadRadius} chunks of the camera are loaded,
+ * chunks further than one more chunk away are unloaded again, so walking along
+ * a chunk border does not load and unload the same chunks every frame.
+ */
+public class ChunkGrid {
+
+    /**
+     * Constructor for class {@code ChunkGrid}. All chunks start out unloaded.
+     *
+     * @param tiles The tiles of the map.
+     */
+    public ChunkGrid(TileGrid tiles) {
+        this.chunksX = (tiles.getWidth() + Chunk.SIZE - 1) / Chunk.SIZE;
+        this.chunksY = (tiles.getHeight() + Chunk.SIZE - 1) / Chunk.SIZE;
+        this.chunks = new Chunk[chunksX * chunksY];
+        for (int y = 0; y < chunksY; y++) {
+            for (int x = 0; x < chunksX; x++) {
+                chunks[y * chunksX + x] = new Chunk(tiles, x, y);
+            }
+        }
+    }
+
+    /**
+     * The number of chunks in x direction.
+     */
+    private final int chunksX;
+
+    /**
+     * The number of chunks in y direction.
+     */
+    private final int chunksY;
+
+    /**
+     * All chunks, row by row.
+     */
+    private final Chunk[] chunks;
+
+    /**
+     * The chunks currently loaded.
+     */
+    private final List<Chunk> loaded = new ArrayList<>();
+
+    /**
+     * The shader shared by the sprite caches of all chunks, created with the first loaded chunk.
+     */
+    private ShaderProgram shader;
+
+    /**
+     * The regions of a floor and a wall tile, acquired with the first loaded chunk.
+     */
+    private TextureRegion floor;
+    private TextureRegion wall;
+
+
+    /**
+     * Loads the chunks around the camera and unloads the chunks far away from it.
+     *
+     * @param x The x coordinate of the camera center in tiles.
+     * @param y The y coordinate of the camera center in tiles.
+     */
+    public void update(float x, float y) {
+        int centerX = (int) Math.floor(x / Chunk.SIZE);
+        int centerY = (int) Math.floor(y / Chunk.SIZE);
+        int radius = Constants.chunkLoadRadius;
+
+        for (int i = loaded.size() - 1; i >= 0; i--) {
+            Chunk chunk = loaded.get(i);
+            if (Math.abs(chunk.getChunkX() - centerX) > radius + 1 || Math.abs(chunk.getChunkY() - centerY) > radius + 1) {
+                chunk.unload();
+                loaded.set(i, loaded.get(loaded.size() - 1));
+                loaded.remove(loaded.size() - 1);
+            }
+        }
+
+        int minX = Math.max(centerX - radius, 0);
+        int maxX = Math.min(centerX + radius, chunksX - 1);
+        int minY = Math.max(centerY - radius, 0);
+        int maxY = Math.min(centerY + radius, chunksY - 1);
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                Chunk chunk = chunks[cy * chunksX + cx];
+                if (!chunk.isLoaded()) {
+                    if (shader == null) {
+                        shader = createShader();
+                        floor = TextureManager.acquire("floor");
+                        wall = TextureManager.acquire("wall");
+                    }
+                    chunk.load(shader, floor, wall);
+                    loaded.add(chunk);
+                }
+            }
+        }
+    }
+
+    /**
+     * Renders the floors and walls of the loaded chunks overlapping a rectangle of tiles, usually the camera's view.
+     * Must not be called between {@code begin()} and {@code end()} of a {@code SpriteBatch}.
+     *
+     * @param projection The projection matrix of the camera.
+     * @param fromX      The x coordinate of the leftmost visible tile.
+     * @param fromY      The y coordinate of the lowest visible tile.
+     * @param toX        The x coordinate of the rightmost visible tile (inclusive).
+     * @param toY        The y coordinate of the highest visible tile (inclusive).
+     */
+    public void render(Matrix4 projection, int fromX, int fromY, int toX, int toY) {
+        for (int i = 0; i < loaded.size(); i++) {
+            Chunk chunk = loaded.get(i);
+            int startX = chunk.getChunkX() * Chunk.SIZE;
+            int startY = chunk.getChunkY() * Chunk.SIZE;
+            if (startX > toX || startX + Chunk.SIZE <= fromX || startY > toY || startY + Chunk.SIZE <= fromY) continue;
+            chunk.render(projection);
+        }
+    }
+
+    /**
+     * Creates the same shader a {@link SpriteCache} creates for itself by default, to be shared by all chunks.
+     */
+    private static ShaderProgram createShader() {
+        String vertexShader = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+                + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+                + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+                + "uniform mat4 u_projectionViewMatrix;\n"
+                + "varying vec4 v_color;\n"
+                + "varying vec2 v_texCoords;\n"
+                + "void main() {\n"
+                + "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+                + "   v_color.a = v_color.a * (255.0/254.0);\n"
+                + "   v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+                + "   gl_Position = u_projectionViewMatrix * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+                + "}\n";
+        String fragmentShader = "#ifdef GL_ES\n"
+                + "precision mediump float;\n"
+                + "#endif\n"
+                + "varying vec4 v_color;\n"
+                + "varying vec2 v_texCoords;\n"
+                + "uniform sampler2D u_texture;\n"
+                + "void main() {\n"
+                + "  gl_FragColor = v_color * texture2D(u_texture, v_texCoords);\n"
+                + "}\n";
+        ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader);
+        if (!shader.isCompiled()) {
+            throw new IllegalStateException("Error compiling chunk shader: " + shader.getLog());
+        }
+        return shader;
+    }
+
+    public int getLoadedChunkCount() {
+        return loaded.size();
+    }
+
+    /**
+     * Unloads all chunks, frees the shared shader and releases the tile textures.
+     */
+    public void dispose() {
+        for (int i = 0; i < loaded.size(); i++) {
+            loaded.get(i).unload();
+        }
+        loaded.clear();
+        if (shader != null) {
+            shader.dispose();
+            shader = null;
+            TextureManager.release("floor");
+            TextureManager.release("wall");
+            floor = null;
+            wall = null;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package de.tum.cit.fop.maze.world;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A tile occupancy grid marking which tiles of the map block movement.
+ * Built once per level, so collision checks only look at the tiles in the direction of travel.
+ * Doors flip single tiles at runtime; every change is reported to the registered {@link TileStateListener}s.
+ */
+public class CollisionGrid {
+
+    /**
+     * Constructor for class {@code CollisionGrid}. All tiles start out passable.
+     *
+     * @param width  The width of the map in tiles.
+     * @param height The height of the map in tiles.
+     */
+    public CollisionGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.solid = new BitSet(width * height);
+    }
+
+    /**
+     * The width of the grid in tiles.
+     */
+    private final int width;
+
+    /**
+     * The height of the grid in tiles.
+     */
+    private final int height;
+
+    /**
+     * One bit per tile, set if the tile blocks movement.
+     */
+    private final BitSet solid;
+
+    /**
+     * The listeners notified about tile changes.
+     */
+    private final List<TileStateListener> listeners = new ArrayList<>();
+
+
+    /**
+     * Checks whether the tile at the given coordinates blocks movement.
+     * Tiles outside the grid are never solid.
+     *
+     * @param x The x coordinate of the tile.
+     * @param y The y coordinate of the tile.
+     * @return True if the tile is solid, false otherwise.
+     */
+    public boolean isSolid(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        return solid.get(y * width + x);
+    }
+
+    /**
+     * Marks the tile at the given coordinates as solid or passable and notifies the listeners if it changed.
+     * Coordinates outside the grid are ignored.
+     *
+     * @param x     The x coordinate of the tile.
+     * @param y     The y coordinate of the tile.
+     * @param value True if the tile should block movement.
+     */
+    public void setSolid(int x, int y, boolean value) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return;
+        }
+        int index = y * width + x;
+        if (solid.get(index) == value) {
+            return;
+        }
+        solid.set(index, value);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onTileChanged(x, y, value);
+        }
+    }
+
+    /**
+     * Registers a listener to be notified about tile changes.
+     *
+     * @param listener The listener.
+     */
+    public void addListener(TileStateListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener The listener.
+     */
+    public void removeListener(TileStateListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Checks whether any tile of a row between two columns (inclusive) is solid.
+     *
+     * @param row      The y coordinate of the row.
+     * @param fromCol  The first column to check.
+     * @param toCol    The last column to check.
+     * @return True if one of the tiles is solid.
+     */
+    public boolean anySolidInRow(int row, int fromCol, int toCol) {
+        for (int col = fromCol; col <= toCol; col++) {
+            if (isSolid(col, row)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether any tile of a column between two rows (inclusive) is solid.
+     *
+     * @param col      The x coordinate of the column.
+     * @param fromRow  The first row to check.
+     * @param toRow    The last row to check.
+     * @return True if one of the tiles is solid.
+     */
+    public boolean anySolidInColumn(int col, int fromRow, int toRow) {
+        for (int row = fromRow; row <= toRow; row++) {
+            if (isSolid(col, row)) return true;
+        }
+        return false;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
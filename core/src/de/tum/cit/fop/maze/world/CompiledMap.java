@@ -0,0 +1,239 @@
+package de.tum.cit.fop.maze.world;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * The compiled binary map format, read through a memory-mapped file instead of parsing text.
+ * <p>
+ * A compiled map starts with a header (all numbers big-endian):
+ * <ul>
+ *     <li>the magic number {@code MAZE} and the format version (short),</li>
+ *     <li>the width and height in tiles,</li>
+ *     <li>the number of entrances, exits, traps, enemies, keys and morph traps,</li>
+ *     <li>the length and CRC32 checksum of the tile layer.</li>
+ * </ul>
+ * The tile layer follows, row by row, as runs of equal tiles: the tile value as one byte,
+ * then the length of the run as a variable-length integer (7 bits per byte, lowest bits first).
+ */
+public final class CompiledMap {
+    private CompiledMap() {
+    }
+
+    /**
+     * The file extension of compiled maps.
+     */
+    public static final String EXTENSION = ".maze";
+
+    private static final int MAGIC = ('M' << 24) | ('A' << 16) | ('Z' << 8) | 'E';
+    private static final short VERSION = 1;
+
+    /**
+     * The tile values counted in the header, starting at 1: entrance, exit, trap, enemy, key, morph trap.
+     */
+    private static final int ENTITY_TYPES = 6;
+
+    private static final int HEADER_SIZE = 4 + 2 + 4 + 4 + 4 * ENTITY_TYPES + 4 + 4;
+
+    /**
+     * The largest supported width and height of a map.
+     */
+    private static final int MAX_SIZE = 1 << 14;
+
+
+    /**
+     * Checks whether a file is a compiled map by looking at its magic number.
+     *
+     * @param path The file.
+     * @return True if the file starts with the magic number of compiled maps.
+     */
+    public static boolean isCompiled(Path path) {
+        if (!Files.isRegularFile(path)) return false;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(4);
+            return channel.read(magic) == 4 && magic.getInt(0) == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Finds the compiled version of a text map: a file with the same name and the {@link #EXTENSION},
+     * which is used if it is at least as new as the text map or the text map does not exist.
+     *
+     * @param source The text map.
+     * @return The compiled map, or null if there is none or it is outdated.
+     */
+    public static Path findCompiled(Path source) {
+        Path compiled = compiledPathOf(source);
+        try {
+            if (!Files.isRegularFile(compiled)) return null;
+            if (!Files.exists(source)) return compiled;
+            return Files.getLastModifiedTime(compiled).compareTo(Files.getLastModifiedTime(source)) >= 0 ? compiled : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the path of the compiled version of a text map: the same name with the {@link #EXTENSION}.
+     *
+     * @param source The text map.
+     * @return The path of the compiled map.
+     */
+    public static Path compiledPathOf(Path source) {
+        String name = source.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return source.resolveSibling((dot > 0 ? name.substring(0, dot) : name) + EXTENSION);
+    }
+
+    /**
+     * Loads a compiled map. The file is memory-mapped and only the tile layer is decoded onto the heap.
+     *
+     * @param path The compiled map.
+     * @return The tile grid.
+     * @throws IOException If the file cannot be read, has an unsupported version or is corrupt.
+     */
+    public static TileGrid read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException(path + ": not a compiled map");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException(path + ": not a compiled map");
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException(path + ": unsupported map version " + version);
+            }
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            if (width < 0 || height < 0 || width > MAX_SIZE || height > MAX_SIZE) {
+                throw new IOException(path + ": invalid size " + width + "x" + height);
+            }
+            int[] entityCounts = new int[ENTITY_TYPES];
+            for (int i = 0; i < ENTITY_TYPES; i++) {
+                entityCounts[i] = buffer.getInt();
+            }
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length != buffer.remaining()) {
+                throw new IOException(path + ": tile layer has " + buffer.remaining() + " bytes, expected " + length);
+            }
+
+            ByteBuffer layer = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(layer.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException(path + ": checksum mismatch");
+            }
+
+            byte[] tiles = decode(layer, width * height, path);
+            int[] counts = countEntities(tiles);
+            if (!Arrays.equals(counts, entityCounts)) {
+                throw new IOException(path + ": entity counts do not match the tile layer");
+            }
+            return new TileGrid(width, height, tiles);
+        }
+    }
+
+    /**
+     * Writes a tile grid as a compiled map.
+     *
+     * @param grid The tile grid.
+     * @param out  The stream to write to. It is not closed.
+     * @throws IOException If the stream cannot be written.
+     */
+    public static void write(TileGrid grid, OutputStream out) throws IOException {
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+        byte[] tiles = new byte[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                tiles[y * width + x] = (byte) grid.get(x, y);
+            }
+        }
+
+        ByteArrayOutputStream layer = new ByteArrayOutputStream();
+        int i = 0;
+        while (i < tiles.length) {
+            int run = 1;
+            while (i + run < tiles.length && tiles[i + run] == tiles[i]) run++;
+            layer.write(tiles[i]);
+            writeVarInt(layer, run);
+            i += run;
+        }
+        byte[] encoded = layer.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(encoded);
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeInt(width);
+        data.writeInt(height);
+        for (int count : countEntities(tiles)) {
+            data.writeInt(count);
+        }
+        data.writeInt(encoded.length);
+        data.writeInt((int) crc.getValue());
+        data.write(encoded);
+        data.flush();
+    }
+
+    private static byte[] decode(ByteBuffer layer, int size, Path path) throws IOException {
+        byte[] tiles = new byte[size];
+        int position = 0;
+        while (layer.hasRemaining()) {
+            byte value = layer.get();
+            int run = readVarInt(layer, path);
+            if (run <= 0 || run > size - position) {
+                throw new IOException(path + ": invalid run of " + run + " tiles at tile " + position);
+            }
+            Arrays.fill(tiles, position, position + run, value);
+            position += run;
+        }
+        if (position != size) {
+            throw new IOException(path + ": tile layer covers " + position + " of " + size + " tiles");
+        }
+        return tiles;
+    }
+
+    private static int[] countEntities(byte[] tiles) {
+        int[] counts = new int[ENTITY_TYPES];
+        for (byte tile : tiles) {
+            if (tile >= 1 && tile <= ENTITY_TYPES) counts[tile - 1]++;
+        }
+        return counts;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(ByteBuffer in, Path path) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (!in.hasRemaining()) break;
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException(path + ": truncated run length");
+    }
+}
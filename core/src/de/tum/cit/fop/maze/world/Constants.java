@@ -52,6 +52,36 @@ private Constants() {
      */
     public static final int enemySightRange = 2;
 
+    /**
+     * How close two enemies may get before they push each other apart
+     */
+    public static final float enemySeparationDistance = 0.75f;
+
+    /**
+     * Up to what distance from the character enemies are updated every frame
+     */
+    public static final float enemyFullRateDistance = 10f;
+
+    /**
+     * From what distance to the character enemies sleep
+     */
+    public static final float enemySleepDistance = 30f;
+
+    /**
+     * Every how many frames enemies between full rate and sleep distance are updated
+     */
+    public static final int enemyThrottledTickInterval = 4;
+
+    /**
+     * How many seconds a throttled or sleeping enemy catches up on at most
+     */
+    public static final float enemyMaxCatchUp = 1f;
+
+    /**
+     * Up to how many chunks around the camera chunk walls and floors are loaded
+     */
+    public static final int chunkLoadRadius = 1;
+
 
     /**
      * The "precision" with which wall is to be avoided.
@@ -0,0 +1,186 @@
+package de.tum.cit.fop.maze.world;
+
+import java.util.Arrays;
+
+/**
+ * A breadth-first distance field over the tile grid, measuring the walking distance of every tile to the nearest source tile.
+ * It doubles as a flow field: any number of enemies can read their next step towards the source in constant time.
+ * The field is only recomputed when a source enters another tile or a tile of the grid changes.
+ * With several sources, e.g. all exits of a level, one multi-source search covers all of them at once.
+ */
+public class DistanceField implements Navigator, TileStateListener {
+
+    /**
+     * The distance of tiles that cannot reach the source.
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /**
+     * Constructor for class {@code DistanceField}. Subscribes to changes of the grid.
+     *
+     * @param grid The collision grid to walk on.
+     */
+    public DistanceField(CollisionGrid grid) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.distance = new int[width * height];
+        this.queue = new int[width * height];
+        Arrays.fill(distance, UNREACHABLE);
+        grid.addListener(this);
+    }
+
+    /**
+     * The collision grid to walk on.
+     */
+    private final CollisionGrid grid;
+
+    /**
+     * The width of the field in tiles.
+     */
+    private final int width;
+
+    /**
+     * The height of the field in tiles.
+     */
+    private final int height;
+
+    /**
+     * The walking distance of every tile to the source.
+     */
+    private final int[] distance;
+
+    /**
+     * The queue of the breadth-first search, allocated once.
+     */
+    private final int[] queue;
+
+    /**
+     * The indices of the source tiles. Only the first {@link #sourceCount} entries are used.
+     */
+    private int[] sources = new int[1];
+
+    /**
+     * The number of source tiles.
+     */
+    private int sourceCount = 0;
+
+    /**
+     * Whether the grid has changed since the last computation.
+     */
+    private boolean dirty = true;
+
+
+    /**
+     * Moves the source of the field, i.e. the target of the enemies. The field is only recomputed if the source tile or the grid has changed.
+     *
+     * @param x The x coordinate of the source tile.
+     * @param y The y coordinate of the source tile.
+     */
+    @Override
+    public void setTarget(int x, int y) {
+        x = Math.min(Math.max(x, 0), width - 1);
+        y = Math.min(Math.max(y, 0), height - 1);
+        int source = y * width + x;
+        if (sourceCount != 1 || sources[0] != source) {
+            sources[0] = source;
+            sourceCount = 1;
+            dirty = true;
+        }
+        refresh();
+    }
+
+    /**
+     * Replaces the sources of the field and recomputes it. Every tile then holds the distance to its nearest source.
+     *
+     * @param xs    The x coordinates of the source tiles.
+     * @param ys    The y coordinates of the source tiles.
+     * @param count The number of source tiles.
+     */
+    public void setSources(int[] xs, int[] ys, int count) {
+        if (sources.length < count) {
+            sources = new int[count];
+        }
+        sourceCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (xs[i] < 0 || ys[i] < 0 || xs[i] >= width || ys[i] >= height) continue;
+            sources[sourceCount++] = ys[i] * width + xs[i];
+        }
+        dirty = true;
+        refresh();
+    }
+
+    /**
+     * Recomputes the field if the grid has changed since the last computation.
+     */
+    public void refresh() {
+        if (!dirty) return;
+        dirty = false;
+        compute();
+    }
+
+    /**
+     * Gets the walking distance of a tile to the source.
+     *
+     * @param x The x coordinate of the tile.
+     * @param y The y coordinate of the tile.
+     * @return The number of steps, or {@link #UNREACHABLE}.
+     */
+    public int getDistance(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return UNREACHABLE;
+        return distance[y * width + x];
+    }
+
+    @Override
+    public int nextStep(int x, int y) {
+        int best = getDistance(x, y);
+        int step = -1;
+        if (getDistance(x + 1, y) < best) { best = getDistance(x + 1, y); step = y * width + x + 1; }
+        if (getDistance(x - 1, y) < best) { best = getDistance(x - 1, y); step = y * width + x - 1; }
+        if (getDistance(x, y + 1) < best) { best = getDistance(x, y + 1); step = (y + 1) * width + x; }
+        if (getDistance(x, y - 1) < best) { step = (y - 1) * width + x; }
+        return step;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public void onTileChanged(int x, int y, boolean solid) {
+        dirty = true;
+    }
+
+    /**
+     * Runs the breadth-first search from all sources at once over all passable tiles.
+     */
+    private void compute() {
+        Arrays.fill(distance, UNREACHABLE);
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < sourceCount; i++) {
+            int source = sources[i];
+            if (distance[source] == 0) continue;
+            distance[source] = 0;
+            queue[tail++] = source;
+        }
+        while (head < tail) {
+            int tile = queue[head++];
+            int x = tile % width;
+            int y = tile / width;
+            int next = distance[tile] + 1;
+            if (x + 1 < width) tail = visit(tile + 1, x + 1, y, next, tail);
+            if (x > 0) tail = visit(tile - 1, x - 1, y, next, tail);
+            if (y + 1 < height) tail = visit(tile + width, x, y + 1, next, tail);
+            if (y > 0) tail = visit(tile - width, x, y - 1, next, tail);
+        }
+    }
+
+    private int visit(int tile, int x, int y, int value, int tail) {
+        if (distance[tile] != UNREACHABLE || grid.isSolid(x, y)) return tail;
+        distance[tile] = value;
+        queue[tail] = tile;
+        return tail + 1;
+    }
+}
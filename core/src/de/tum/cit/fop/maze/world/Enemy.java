@@ -1,13 +1,9 @@
 package de.tum.cit.fop.maze.world;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
-import java.util.List;
-
 /**
  * A class representing an enemy with a certain position on the game map that moves around.
  */
@@ -32,7 +28,12 @@ public void activate() {
     /**
      * The texture from which frames and animations are loaded.
      */
-    private static Texture enemyTexture;
+    private static TextureRegion enemyTexture;
+
+    /**
+     * Whether this enemy holds a reference to its texture in the {@link TextureManager}.
+     */
+    private boolean holdsTexture;
 
     /**
      * The frame to be rendered.
@@ -80,6 +81,36 @@ public void activate() {
      */
     private boolean proximitySoundPlayed = false;
 
+    /**
+     * The sound played when an enemy starts chasing, shared among all enemies.
+     */
+    private static com.badlogic.gdx.audio.Sound proximitySound;
+
+    /**
+     * The volume the proximity sound is played at, set from the settings by the game screen.
+     */
+    private static float proximitySoundVolume = 0.5f;
+
+    /**
+     * The time that passed while the enemy was throttled or asleep, simulated on its next update.
+     */
+    private float pendingDelta;
+
+    /**
+     * The tile of the enemy when the line of sight was last checked.
+     */
+    private long sightEnemyTile = Long.MIN_VALUE;
+
+    /**
+     * The tile of the player when the line of sight was last checked.
+     */
+    private long sightPlayerTile = Long.MIN_VALUE;
+
+    /**
+     * The result of the last line-of-sight check.
+     */
+    private boolean sightClear;
+
 
     /**
      * Chooses a movement direction for the enemy at random.
@@ -111,54 +142,128 @@ protected float calculateSpeed(float delta) {
     /**
      * The enemy chases the target if within sight range; otherwise, it idles.
      *
-     * @param delta  The time elapsed since the last frame.
-     * @param walls  The list of walls that should be avoided.
-     * @param player The player to be chased.
+     * @param delta           The time elapsed since the last frame.
+     * @param grid            The collision grid of the map.
+     * @param playerNavigator The navigator towards the player's tile.
+     * @param player          The player to be chased.
      */
-    protected void tryChase(float delta, List<Wall> walls, GameCharacter player) {
+    protected void tryChase(float delta, CollisionGrid grid, Navigator playerNavigator, GameCharacter player) {
         if (!active) return;
 
         if (Math.abs(x - player.getX()) > sightRange
-                || Math.abs(y - player.getY()) > sightRange) {
-            idle(delta, walls);
+                || Math.abs(y - player.getY()) > sightRange
+                || !canSee(player, grid)) {
+            idle(delta, grid);
             return;
         }
 
         if (!proximitySoundPlayed) {
-            com.badlogic.gdx.audio.Sound sound = Gdx.audio.newSound(Gdx.files.internal("assets/sounds/enemy.mp3"));
-
-            float sfxVolume = Gdx.app.getPreferences("MazeRunnerPrefs").getFloat("sfx_volume", 0.5f);
+            if (proximitySound == null) {
+                proximitySound = Gdx.audio.newSound(Gdx.files.internal("assets/sounds/enemy.mp3"));
+            }
 
-            sound.play(sfxVolume);
+            proximitySound.play(proximitySoundVolume);
 
             proximitySoundPlayed = true;
         }
 
+        chase(delta, grid, playerNavigator, player);
+    }
+
+    /**
+     * Moves the enemy one step towards the player along the shortest path read from the navigator,
+     * or straight at the player if the navigator knows no path from the enemy's tile.
+     *
+     * @param delta           The time elapsed since the last frame.
+     * @param grid            The collision grid of the map.
+     * @param playerNavigator The navigator towards the player's tile.
+     * @param player          The player to be chased.
+     */
+    protected void chase(float delta, CollisionGrid grid, Navigator playerNavigator, GameCharacter player) {
+        int step = playerNavigator.nextStep(Math.round(x), Math.round(y));
+        if (step != -1) {
+            stepTowards(step % playerNavigator.getWidth(), step / playerNavigator.getWidth(), delta, grid);
+            return;
+        }
+        chaseDirectly(delta, grid, player);
+    }
+
+    /**
+     * Moves the enemy straight towards the player's position, one axis after the other.
+     *
+     * @param delta  The time elapsed since the last frame.
+     * @param grid   The collision grid of the map.
+     * @param player The player to be chased.
+     */
+    protected void chaseDirectly(float delta, CollisionGrid grid, GameCharacter player) {
         if (player.getX() > this.x) {
-            moveRight(delta, walls);
+            moveRight(delta, grid);
         } else if (player.getX() < this.x) {
-            moveLeft(delta, walls);
+            moveLeft(delta, grid);
         }
         if (player.getY() > this.y) {
-            moveUp(delta, walls);
+            moveUp(delta, grid);
         } else if (player.getY() < this.y) {
-            moveDown(delta, walls);
+            moveDown(delta, grid);
+        }
+    }
+
+    /**
+     * Moves the enemy towards the given tile on both axes without overshooting it.
+     *
+     * @param targetX The x coordinate of the tile.
+     * @param targetY The y coordinate of the tile.
+     * @param delta   The time elapsed since the last frame.
+     * @param grid    The collision grid of the map.
+     */
+    protected void stepTowards(int targetX, int targetY, float delta, CollisionGrid grid) {
+        float speed = calculateSpeed(delta);
+        float dx = Math.max(-speed, Math.min(speed, targetX - x));
+        float dy = Math.max(-speed, Math.min(speed, targetY - y));
+        if (!moveBy(dx, dy, grid)) return;
+        if (Math.abs(dx) >= Math.abs(dy)) {
+            currentMovementDirection = dx > 0 ? Direction.RIGHT : Direction.LEFT;
+        } else {
+            currentMovementDirection = dy > 0 ? Direction.UP : Direction.DOWN;
         }
     }
 
+    /**
+     * Checks whether walls block the view between the enemy and the player.
+     * The ray is only cast again once the enemy or the player has entered another tile.
+     *
+     * @param player The player to be seen.
+     * @param grid   The collision grid of the map.
+     * @return True if the enemy can see the player.
+     */
+    protected boolean canSee(GameCharacter player, CollisionGrid grid) {
+        int enemyX = Math.round(x);
+        int enemyY = Math.round(y);
+        int playerX = Math.round(player.getX());
+        int playerY = Math.round(player.getY());
+        long enemyTile = ((long) enemyX << 32) | (enemyY & 0xFFFFFFFFL);
+        long playerTile = ((long) playerX << 32) | (playerY & 0xFFFFFFFFL);
+        if (enemyTile != sightEnemyTile || playerTile != sightPlayerTile) {
+            sightEnemyTile = enemyTile;
+            sightPlayerTile = playerTile;
+            sightClear = LineOfSight.isClear(grid, enemyX, enemyY, playerX, playerY);
+        }
+        return sightClear;
+    }
+
     /**
      * The enemy moves randomly in the idle state.
      *
      * @param delta The time elapsed since the last frame.
-     * @param walls The list of walls that should be avoided.
+     * @param grid  The collision grid of the map.
      */
-    protected void idle(float delta, List<Wall> walls) {
+    protected void idle(float delta, CollisionGrid grid) {
         proximitySoundPlayed = false;
         boolean moved = switch (currentMovementDirection) {
-            case UP -> moveUp(delta, walls);
-            case DOWN -> moveDown(delta, walls);
-            case LEFT -> moveLeft(delta, walls);
-            case RIGHT -> moveRight(delta, walls);
+            case UP -> moveUp(delta, grid);
+            case DOWN -> moveDown(delta, grid);
+            case LEFT -> moveLeft(delta, grid);
+            case RIGHT -> moveRight(delta, grid);
         };
 
         if (moved) return;
@@ -170,17 +275,30 @@ protected void idle(float delta, List<Wall> walls) {
     /**
      * Updates the enemy's behavior and animation frame.
      *
-     * @param delta  The time elapsed since the last frame.
-     * @param walls  The list of walls that should be avoided.
-     * @param player The player to be chased.
+     * @param delta           The time elapsed since the last frame.
+     * @param grid            The collision grid of the map.
+     * @param playerNavigator The navigator towards the player's tile.
+     * @param player          The player to be chased.
      */
-    public void update(float delta, List<Wall> walls, GameCharacter player) {
+    public void update(float delta, CollisionGrid grid, Navigator playerNavigator, GameCharacter player) {
+        delta += pendingDelta;
+        pendingDelta = 0;
         if (!super.active) return;
         stateTime += delta;
-        tryChase(delta, walls, player);
+        tryChase(delta, grid, playerNavigator, player);
         updateAnimation();
     }
 
+    /**
+     * Skips an update of the enemy. The elapsed time is kept, up to {@link Constants#enemyMaxCatchUp} seconds,
+     * and caught up on with the next update.
+     *
+     * @param delta The time elapsed since the last frame.
+     */
+    public void defer(float delta) {
+        pendingDelta = Math.min(pendingDelta + delta, Constants.enemyMaxCatchUp);
+    }
+
     /**
      * Updates the animation frame based on the enemy's movement direction.
      */
@@ -195,15 +313,17 @@ private void updateAnimation() {
 
 
     /**
-     * Loads textures and animations for the enemy.
+     * Acquires the texture and cuts the animations for the enemy unless they were cut from the same atlas before.
      */
-    private static void loadTexturesAndAnimations() {
-        if (enemyTexture == null) {
-            enemyTexture = TextureManager.mobsTexture;
+    private void loadTexturesAndAnimations() {
+        TextureRegion sheet = TextureManager.acquire("mobs");
+        holdsTexture = true;
+        if (sheet != enemyTexture) {
+            enemyTexture = sheet;
 
             int animationFrames = 3;
-            int frameWidth = enemyTexture.getWidth() / animationFrames;
-            int frameHeight = enemyTexture.getHeight() / 4;
+            int frameWidth = enemyTexture.getRegionWidth() / animationFrames;
+            int frameHeight = enemyTexture.getRegionHeight() / 4;
 
 
             int characterRow = 0;
@@ -232,14 +352,34 @@ private static void loadTexturesAndAnimations() {
         }
     }
 
+    /**
+     * Sets the volume the sound of an enemy starting to chase is played at.
+     *
+     * @param volume The sound effect volume, between 0 and 1.
+     */
+    public static void setProximitySoundVolume(float volume) {
+        proximitySoundVolume = volume;
+    }
+
+    /**
+     * Releases the texture of the enemy. The animations are kept for other enemies until the atlas is packed again.
+     */
+    @Override
+    public void dispose() {
+        if (holdsTexture) {
+            TextureManager.release("mobs");
+            holdsTexture = false;
+        }
+    }
+
     /**
      * Renders the enemy.
      *
-     * @param batch The {@code SpriteBatch} used for rendering.
+     * @param queue The {@code RenderQueue} the sprite is submitted to.
      */
-    public void render(SpriteBatch batch) {
+    public void render(RenderQueue queue) {
         if (super.active && currentFrame != null) { // Add null check for safety, although it shouldn't be null now
-            batch.draw(currentFrame, x * 32, y * 32, 32, 32);
+            queue.submit(RenderQueue.LAYER_ENEMIES, currentFrame, x * 32, y * 32, 32, 32);
         }
     }
 }
@@ -1,8 +1,5 @@
 package de.tum.cit.fop.maze.world;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
@@ -52,31 +49,38 @@ public void lock() {
 
 
     /**
-     * Loads the textures.
+     * Acquires the textures.
      */
     private void loadTextures() {
-        Texture texture = new Texture(Gdx.files.internal("assets/basictiles.png"));
+        TextureRegion texture = TextureManager.acquire("basictiles");
         lockedTexture = new TextureRegion(texture, 16 * 2, 16 * 10, 16, 16);
         unlockedTexture = new TextureRegion(texture, 16, 16 * 10, 16, 16);
     }
 
     /**
-     * Renders the entrance using the given {@code SpriteBatch}.
+     * Renders the entrance, on top of a wall once it is locked.
      *
-     * @param batch The {@code SpriteBatch} used for rendering.
+     * @param queue The {@code RenderQueue} the sprite is submitted to.
      */
-    public void render(SpriteBatch batch) {
+    public void render(RenderQueue queue) {
+        if (!isUnlocked()) {
+            super.render(queue);
+        }
         TextureRegion currentTexture = isUnlocked() ? unlockedTexture : lockedTexture;
-        batch.draw(currentTexture, x * 32, y * 32, 32, 32);
+        queue.submit(RenderQueue.LAYER_TILES, currentTexture, x * 32, y * 32, 32, 32);
     }
 
 
     /**
-     * Disposes of the textures to free resources.
+     * Releases the textures.
      */
     @Override
     public void dispose() {
-        if (lockedTexture != null) lockedTexture.getTexture().dispose();
-        if (unlockedTexture != null) unlockedTexture.getTexture().dispose();
+        if (lockedTexture != null) {
+            TextureManager.release("basictiles");
+            lockedTexture = null;
+            unlockedTexture = null;
+        }
+        super.dispose();
     }
 }
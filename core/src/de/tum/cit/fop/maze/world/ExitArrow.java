@@ -1,12 +1,7 @@
 package de.tum.cit.fop.maze.world;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
-import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -34,21 +29,38 @@ public ExitArrow() {
 
 
     /**
-     * Sets the position of the arrow above the character and its rotation towards the nearest exit.
+     * Sets the position of the arrow above the character and its rotation along the shortest path to the nearest exit.
+     * If no exit can be reached from the character's tile, the arrow points straight at the nearest exit.
      *
-     * @param x     The x position of the player's character.
-     * @param y     The y position of the player's character.
-     * @param exits The list of exits of the map.
+     * @param x             The x position of the player's character.
+     * @param y             The y position of the player's character.
+     * @param exits         The list of exits of the map.
+     * @param exitDistances The walking distances to the nearest exit.
      */
-    public void update(float x, float y, List<Exit> exits) {
+    public void update(float x, float y, List<Exit> exits, DistanceField exitDistances) {
         sprite.setPosition(x * 32 + 10, (y + 1) * 32);
 
-        rotation = exits.stream()
-                .sorted(Comparator.comparingDouble(e ->
-                        Math.sqrt(Math.pow(e.getX() - x, 2) + Math.pow(e.getY() - y, 2))
-                ))
-                .map(e -> Math.toDegrees(Math.atan2(e.getY() - y, e.getX() - x)))
-                .findFirst().orElse(0d);
+        int step = exitDistances.nextStep(Math.round(x), Math.round(y));
+        if (step >= 0) {
+            int width = exitDistances.getWidth();
+            rotation = Math.toDegrees(Math.atan2(step / width - y, step % width - x));
+            sprite.setRotation((float) rotation);
+            return;
+        }
+
+        Exit nearest = null;
+        float nearestDistance = Float.MAX_VALUE;
+        for (int i = 0; i < exits.size(); i++) {
+            Exit exit = exits.get(i);
+            float dx = exit.getX() - x;
+            float dy = exit.getY() - y;
+            float distance = dx * dx + dy * dy;
+            if (distance < nearestDistance) {
+                nearest = exit;
+                nearestDistance = distance;
+            }
+        }
+        rotation = nearest == null ? 0d : Math.toDegrees(Math.atan2(nearest.getY() - y, nearest.getX() - x));
 
         sprite.setRotation((float) rotation);
     }
@@ -57,8 +69,7 @@ public void update(float x, float y, List<Exit> exits) {
      * Loads the sprite to be rendered.
      */
     private void loadSprite() {
-        Texture sheet = new Texture(Gdx.files.internal("assets/images/exit-arrow.png"));
-        sprite = new Sprite(new TextureRegion(sheet, 16, 16));
+        sprite = new Sprite(TextureManager.acquire("exit-arrow"));
         sprite.setSize(16, 16);
         sprite.setOrigin(sprite.getWidth() / 2, sprite.getHeight() / 2);
     }
@@ -66,9 +77,20 @@ private void loadSprite() {
     /**
      * Renders the arrow on the screen.
      *
-     * @param batch The {@code SpriteBatch} used for rendering.
+     * @param queue The {@code RenderQueue} the sprite is submitted to.
+     */
+    public void render(RenderQueue queue) {
+        queue.submit(RenderQueue.LAYER_MARKERS, sprite, sprite.getX(), sprite.getY(), sprite.getOriginX(), sprite.getOriginY(),
+                sprite.getWidth(), sprite.getHeight(), sprite.getRotation(), RenderQueue.NO_TINT);
+    }
+
+    /**
+     * Releases the texture of the arrow.
      */
-    public void render(SpriteBatch batch) {
-        sprite.draw(batch);
+    public void dispose() {
+        if (sprite != null) {
+            TextureManager.release("exit-arrow");
+            sprite = null;
+        }
     }
 }
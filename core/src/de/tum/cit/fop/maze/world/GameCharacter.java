@@ -2,12 +2,10 @@
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
-import java.util.List;
 
 /** * A class representing the player's character with a certain position on the game map. */
 public final class GameCharacter extends MapElement {
@@ -61,6 +59,9 @@ public GameCharacter(int upKey, int downKey, int leftKey, int rightKey) {
     private TextureRegion idleRight;
     private Animation<TextureRegion> currentAnimation;
     private TextureRegion defaultFrame;
+    private static final float PAIN_TINT = Color.toFloatBits(1f, 0.3f, 0.3f, 1f);
+    private static final float GAIN_TINT = Color.toFloatBits(0.6f, 1f, 0.8f, 1f);
+    private boolean holdsTexture;
     private boolean isAnimating = false;
     private float animationTime = 0f;
 
@@ -132,7 +133,7 @@ public void setPosition(float x, float y) {
         this.y = y;
     }
 
-    public void update(float delta, List<Wall> walls) {
+    public void update(float delta, CollisionGrid grid) {
         animationTime += delta;
         painTime += delta;
         gainTime += delta;
@@ -142,7 +143,7 @@ public void update(float delta, List<Wall> walls) {
         }
         boolean moved = false;
         if (Gdx.input.isKeyPressed(upKey) || Gdx.input.isKeyPressed(Input.Keys.UP)) {
-            moveUp(delta, walls);
+            moveUp(delta, grid);
             if (painTime < Constants.characterPainGainTolerance)
                 startAnimation(damageUpAnimation);
             else
@@ -150,7 +151,7 @@ public void update(float delta, List<Wall> walls) {
             moved = true;
         }
         if (Gdx.input.isKeyPressed(downKey) || Gdx.input.isKeyPressed(Input.Keys.DOWN)) {
-            moveDown(delta, walls);
+            moveDown(delta, grid);
             if (painTime < Constants.characterPainGainTolerance)
                 startAnimation(damageDownAnimation);
             else
@@ -158,7 +159,7 @@ public void update(float delta, List<Wall> walls) {
             moved = true;
         }
         if (Gdx.input.isKeyPressed(leftKey) || Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
-            moveLeft(delta, walls);
+            moveLeft(delta, grid);
             if (painTime < Constants.characterPainGainTolerance)
                 startAnimation(damageLeftAnimation);
             else
@@ -166,7 +167,7 @@ public void update(float delta, List<Wall> walls) {
             moved = true;
         }
         if (Gdx.input.isKeyPressed(rightKey) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
-            moveRight(delta, walls);
+            moveRight(delta, grid);
             if (painTime < Constants.characterPainGainTolerance)
                 startAnimation(damageRightAnimation);
             else
@@ -182,7 +183,8 @@ public void update(float delta, List<Wall> walls) {
     }
 
     private void loadTexturesAndAnimations() {
-        Texture characterSheet = new Texture(Gdx.files.internal("assets/character.png"));
+        TextureRegion characterSheet = TextureManager.acquire("character");
+        holdsTexture = true;
         walkDownAnimation = createAnimation(characterSheet, 0, 0);
         walkRightAnimation = createAnimation(characterSheet, 0, 32);
         walkUpAnimation = createAnimation(characterSheet, 0, 64);
@@ -198,7 +200,7 @@ private void loadTexturesAndAnimations() {
         idleLeft = new TextureRegion(characterSheet, 0, 96, 16, 32);
     }
 
-    private Animation<TextureRegion> createAnimation(Texture texture, int startX, int startY) {
+    private Animation<TextureRegion> createAnimation(TextureRegion texture, int startX, int startY) {
         int frameWidth = 16;
         int frameHeight = 32;
         int frameCount = 4;
@@ -237,13 +239,14 @@ public void setHeartsCollected(int count) {
     }
 
     @Override
-    public void render(SpriteBatch batch) {
+    public void render(RenderQueue queue) {
         TextureRegion frame = isAnimating ? currentAnimation.getKeyFrame(animationTime, true) : defaultFrame;
+        float tint = RenderQueue.NO_TINT;
         if (painTime < Constants.characterPainGainTolerance) {
-            batch.setColor(1f, 0.3f, 0.3f, 1);
+            tint = PAIN_TINT;
         }
         if (gainTime < Constants.characterPainGainTolerance) {
-            batch.setColor(0.6f, 1f, 0.8f, 1);
+            tint = GAIN_TINT;
         }
         float scale = 1.5f;
 
@@ -255,8 +258,17 @@ public void render(SpriteBatch batch) {
         float yOffset = -2f;
         float drawY = (y * 32) + yOffset;
 
-        batch.draw(frame, drawX, drawY, drawWidth, drawHeight);
-        batch.setColor(1, 1, 1, 1);
+        queue.submit(RenderQueue.LAYER_PLAYER, frame, drawX, drawY, drawWidth, drawHeight, tint);
     }
 
-}
\ No newline at end of file
+    /**
+     * Releases the texture of the character.
+     */
+    @Override
+    public void dispose() {
+        if (holdsTexture) {
+            TextureManager.release("character");
+            holdsTexture = false;
+        }
+    }
+}
@@ -1,13 +1,11 @@
 package de.tum.cit.fop.maze.world;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * GameHelper class providing static methods for handling map data and collisions in the maze world.
@@ -15,46 +13,28 @@
 public class GameHelper {
 
     /**
-     * Reads a map file and constructs a map representation from it.
+     * Reads a map file and constructs a tile grid from it. The grid is just large enough to hold every tile in the file.
+     * Both text maps and {@link CompiledMap compiled maps} are accepted. For a text map, an up-to-date
+     * compiled version next to it is loaded instead.
      *
      * @param filePath The path of the file to be read.
-     * @return A map where each key is a list of two integers representing coordinates, and the value is an integer associated with these coordinates.
+     * @return The tile grid, empty if the file cannot be read.
      */
-    public static Map<List<Integer>, Integer> loadLevelData(String filePath) {
-        Map<List<Integer>, Integer> map = new HashMap<>();
-        try {
-            Path path = Paths.get(filePath);
-            List<String> lines = Files.readAllLines(path);
-            for (String line : lines) {
-                if (line.trim().isEmpty()) {
-                    continue;
-                }
-                if (line.contains("=")) {
-                    String[] parts = line.split("=");
-                    if (parts.length == 2) {
-                        String[] xy = parts[0].split(",");
-                        try {
-                            if (xy.length != 2) {
-                                System.err.println("Invalid coordinates in line: " + line);
-                                continue;
-                            }
-                            int x = Integer.parseInt(xy[0].trim());
-                            int y = Integer.parseInt(xy[1].trim());
-                            int value = Integer.parseInt(parts[1].trim());
-                            map.put(Arrays.asList(x, y), value);
-                        } catch (NumberFormatException e) {
-                            System.err.println("Invalid coordinates or value in line: " + line);
-                        }
-                    } else {
-                        System.err.println("Malformed line: " + line);
-                    }
-                } else {
-                    System.err.println("Line missing '=': " + line);
-                }
+    public static TileGrid loadLevelData(String filePath) {
+        Path path = Paths.get(filePath);
+        Path compiled = CompiledMap.isCompiled(path) ? path : CompiledMap.findCompiled(path);
+        if (compiled != null) {
+            try {
+                return CompiledMap.read(compiled);
+            } catch (IOException e) {
+                System.err.println("Falling back to the text map: " + e.getMessage());
             }
-        } catch (IOException ignored) {
         }
-        return map;
+        try (InputStream in = Files.newInputStream(path)) {
+            return MapFileParser.parse(in, filePath);
+        } catch (IOException e) {
+            return new TileGrid(0, 0);
+        }
     }
 
 
@@ -67,12 +47,24 @@ public static Map<List<Integer>, Integer> loadLevelData(String filePath) {
      * @return True if the coordinates correspond to one of the elements, false otherwise.
      */
     public static boolean isAtCoordinate(float x, float y, List<? extends MapElement> elements) {
-        final float tolerance = 0.5f;
         for (MapElement element : elements) {
-            if (Math.abs(x - element.getX()) < tolerance && Math.abs(y - element.getY()) < tolerance) {
+            if (isAtCoordinate(x, y, element)) {
                 return true;
             }
         }
         return false;
     }
+
+    /**
+     * Checks if the specified coordinates correspond to a single game element in the maze.
+     *
+     * @param x       The x-coordinate to check.
+     * @param y       The y-coordinate to check.
+     * @param element The game element to compare against.
+     * @return True if the coordinates correspond to the element, false otherwise.
+     */
+    public static boolean isAtCoordinate(float x, float y, MapElement element) {
+        final float tolerance = 0.5f;
+        return Math.abs(x - element.getX()) < tolerance && Math.abs(y - element.getY()) < tolerance;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package de.tum.cit.fop.maze.world;
 
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.IntArray;
 
 import java.util.*;
 
@@ -19,26 +22,80 @@ public class GameMap {
      * @param levelPath Path to the level file.
      */
     public GameMap(String levelPath) {
+        this(levelPath, LevelCache.load(levelPath));
+    }
+
+    /**
+     * Constructor for class {@code GameMap}. Initializes the maze from tiles that have already been loaded,
+     * e.g. by a background thread, so only the entities are created here.
+     *
+     * @param levelPath Path to the level file.
+     * @param tiles     The tiles of the level.
+     */
+    public GameMap(String levelPath, TileGrid tiles) {
         this.levelPath = levelPath;
         this.mapFile = levelPath;
-        this.map = GameHelper.loadLevelData(levelPath);
+        this.map = tiles;
         buildWorld();
     }
 
-    private final Map<List<Integer>, Integer> map;
-    private static int width;
-    private static int height;
-    private final List<Wall> walls = new ArrayList<>();
+    /**
+     * Maps with more tiles than this use hierarchical pathfinding instead of a distance field over the whole map.
+     */
+    private static final int HIERARCHICAL_PATHFINDING_TILES = 256 * 256;
+
+    private TileGrid map;
+    private int width;
+    private int height;
+    private ChunkGrid chunkGrid;
+    private CollisionGrid collisionGrid;
+    private Navigator playerNavigator;
+    private DistanceField exitDistances;
+    private DistanceField keyDistances;
     private final List<Trap> traps = new ArrayList<>();
     private final List<MorphTrap> morphTraps = new ArrayList<>();
     private final List<Enemy> enemies = new ArrayList<>();
     private final List<Key> keys = new ArrayList<>();
     private final List<Exit> exits = new ArrayList<>();
-    private final List<Floor> floors = new ArrayList<>();
     private List<Heart> hearts = new ArrayList<>();
     private List<Boost> boosts = new ArrayList<>();
     private Entrance entrance;
 
+    private SpatialIndex<Key> keyIndex;
+    private SpatialIndex<Heart> heartIndex;
+    private SpatialIndex<Boost> boostIndex;
+    private SpatialIndex<Trap> trapIndex;
+    private SpatialIndex<MorphTrap> morphTrapIndex;
+    private Broadphase<Enemy> enemyBroadphase;
+
+    /**
+     * The size of a tile in pixels.
+     */
+    private static final int TILE_SIZE = 32;
+
+    /**
+     * The tiles seen by the camera, set by {@link #setView(OrthographicCamera)}. Everything is visible until then.
+     */
+    private int viewFromX = Integer.MIN_VALUE;
+    private int viewFromY = Integer.MIN_VALUE;
+    private int viewToX = Integer.MAX_VALUE;
+    private int viewToY = Integer.MAX_VALUE;
+
+    /**
+     * Reused lists of the elements within the view, sized for all elements of the map, so a query never grows them.
+     */
+    private List<Key> visibleKeys;
+    private List<Trap> visibleTraps;
+    private List<MorphTrap> visibleMorphTraps;
+    private List<Heart> visibleHearts;
+    private List<Boost> visibleBoosts;
+    private List<Enemy> visibleEnemies;
+
+    /**
+     * The queue the visible elements submit their sprites to each frame.
+     */
+    private final RenderQueue renderQueue = new RenderQueue();
+
 
     private GameCharacter player = null;
 
@@ -46,11 +103,21 @@ public GameMap(String levelPath) {
     private float playerStartX = -1;
     private float playerStartY = -1;
 
-    public static int getWidth() {
+    /**
+     * Gets the width of this map. Every map has its own size, so several maps can be held at once.
+     *
+     * @return The width in tiles.
+     */
+    public int getWidth() {
         return width;
     }
 
-    public static int getHeight() {
+    /**
+     * Gets the height of this map.
+     *
+     * @return The height in tiles.
+     */
+    public int getHeight() {
         return height;
     }
 
@@ -60,8 +127,111 @@ public String getLevelPath() {
     }
 
 
-    public List<Wall> getWalls() {
-        return walls;
+    /**
+     * Gets the chunks holding the walls and floors of the map.
+     *
+     * @return The chunk grid.
+     */
+    public ChunkGrid getChunkGrid() {
+        return chunkGrid;
+    }
+
+    /**
+     * Sets the area seen by the camera: chunks around it are loaded, those far away unloaded,
+     * and only what lies within its bounds is rendered until the next call.
+     *
+     * @param camera The camera the map is rendered with.
+     */
+    public void setView(OrthographicCamera camera) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2;
+        // Elements are drawn from their position up and to the right, so one extra tile to the left and bottom.
+        viewFromX = (int) Math.floor((camera.position.x - halfWidth) / TILE_SIZE) - 1;
+        viewFromY = (int) Math.floor((camera.position.y - halfHeight) / TILE_SIZE) - 1;
+        viewToX = (int) Math.floor((camera.position.x + halfWidth) / TILE_SIZE);
+        viewToY = (int) Math.floor((camera.position.y + halfHeight) / TILE_SIZE);
+        chunkGrid.update(camera.position.x / TILE_SIZE, camera.position.y / TILE_SIZE);
+    }
+
+    /**
+     * Renders the baked floors and walls of the loaded chunks within the view.
+     * Must be called outside of {@code begin()} and {@code end()} of the {@code SpriteBatch}, before the rest of the map.
+     *
+     * @param projection The projection matrix of the camera.
+     */
+    public void renderStaticLayer(Matrix4 projection) {
+        chunkGrid.render(projection, viewFromX, viewFromY, viewToX, viewToY);
+    }
+
+    public CollisionGrid getCollisionGrid() {
+        return collisionGrid;
+    }
+
+    /**
+     * Gets the navigator towards the player's tile shared by all chasing enemies.
+     * Door changes reach it through the collision grid.
+     *
+     * @return The navigator.
+     */
+    public Navigator getPlayerNavigator() {
+        return playerNavigator;
+    }
+
+    /**
+     * Gets the walking distances to the nearest exit, computed when the level is loaded.
+     * Door changes reach it through the collision grid; call {@link DistanceField#refresh()} before reading it.
+     *
+     * @return The distance field of all exits.
+     */
+    public DistanceField getExitDistances() {
+        return exitDistances;
+    }
+
+    /**
+     * Gets the walking distances to the nearest key that has not been collected yet.
+     *
+     * @return The distance field of the remaining keys.
+     */
+    public DistanceField getKeyDistances() {
+        return keyDistances;
+    }
+
+    /**
+     * Recomputes the key distances from the keys that have not been collected yet.
+     * Called whenever a key is collected or the collected keys are restored from a save game.
+     */
+    public void updateKeyDistances() {
+        int[] xs = new int[keys.size()];
+        int[] ys = new int[keys.size()];
+        int count = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            Key key = keys.get(i);
+            if (key.isCollected()) continue;
+            xs[count] = Math.round(key.getX());
+            ys[count] = Math.round(key.getY());
+            count++;
+        }
+        keyDistances.setSources(xs, ys, count);
+    }
+
+    /**
+     * Opens or closes a door (an {@link Entrance} or {@link Exit}) by flipping its tile in the collision grid.
+     * Subscribers of the grid are notified about the change.
+     *
+     * @param door  The door.
+     * @param solid True if the door should block movement.
+     */
+    public void setDoorSolid(Wall door, boolean solid) {
+        collisionGrid.setSolid(Math.round(door.getX()), Math.round(door.getY()), solid);
+    }
+
+    /**
+     * Registers a listener notified whenever a tile switches between solid and passable.
+     *
+     * @param listener The listener.
+     */
+    public void addTileStateListener(TileStateListener listener) {
+        collisionGrid.addListener(listener);
     }
 
     public GameCharacter getPlayer() {
@@ -115,6 +285,30 @@ public List<Boost> getBoosts() {
         return boosts;
     }
 
+    public SpatialIndex<Key> getKeyIndex() {
+        return keyIndex;
+    }
+
+    public SpatialIndex<Heart> getHeartIndex() {
+        return heartIndex;
+    }
+
+    public SpatialIndex<Boost> getBoostIndex() {
+        return boostIndex;
+    }
+
+    public SpatialIndex<Trap> getTrapIndex() {
+        return trapIndex;
+    }
+
+    public SpatialIndex<MorphTrap> getMorphTrapIndex() {
+        return morphTrapIndex;
+    }
+
+    public Broadphase<Enemy> getEnemyBroadphase() {
+        return enemyBroadphase;
+    }
+
     public de.tum.cit.fop.maze.world.ExitArrow getExitArrow() {
         return exitArrow;
     }
@@ -122,15 +316,18 @@ public de.tum.cit.fop.maze.world.ExitArrow getExitArrow() {
     private ExitArrow exitArrow;
 
     private void buildWorld() {
-        width = height = 0;
-        calculateDimensions();
-        List<Floor> emptySpaces = new ArrayList<>();
+        width = map.getWidth();
+        height = map.getHeight();
+        collisionGrid = new CollisionGrid(width, height);
+        if (chunkGrid != null) {
+            chunkGrid.dispose();
+        }
+        chunkGrid = new ChunkGrid(map);
+        IntArray emptySpaces = new IntArray();
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                List<Integer> coordinates = Arrays.asList(x, y);
-                int value = map.getOrDefault(coordinates, -1);
-                switch (value) {
-                    case 0 -> walls.add(new Wall(x, y));
+                switch (map.get(x, y)) {
+                    case 0 -> collisionGrid.setSolid(x, y, true);
                     case 1 -> {
                         entrance = new Entrance(x, y);
 
@@ -141,49 +338,79 @@ private void buildWorld() {
                     case 2 -> {
                         Exit e = new Exit(x, y);
                         exits.add(e);
-                        walls.add(e);
+                        collisionGrid.setSolid(x, y, true);
                         enemies.add(new GhostEnemy(x, y));
-                        floors.add(new Floor(x, y));
                     }
                     case 3 -> {
                         traps.add(new Trap(x, y));
-                        floors.add(new Floor(x, y));
                     }
                     case 4 -> {
                         enemies.add(new Enemy(x, y));
-                        floors.add(new Floor(x, y));
                     }
                     case 5 -> {
                         keys.add(new Key(x, y));
-                        floors.add(new Floor(x, y));
                     }
                     case 6 -> {
                         morphTraps.add(new MorphTrap(x, y));
-                        floors.add(new Floor(x, y));
-                    }
-                    default -> {
-                        Floor floor = new Floor(x, y);
-                        floors.add(floor);
-                        emptySpaces.add(floor);
                     }
+                    default -> emptySpaces.add(y * width + x);
                 }
             }
         }
+        playerNavigator = width * height > HIERARCHICAL_PATHFINDING_TILES
+                ? new HierarchicalPathfinder(collisionGrid)
+                : new DistanceField(collisionGrid);
+        buildDistanceFields();
         hearts = manualPlacements(emptySpaces, CollectableType.Heart, Heart.class);
         boosts = manualPlacements(emptySpaces, CollectableType.BOOST, Boost.class);
+        buildSpatialIndices();
     }
 
-    private <T extends MapElement> List<T> manualPlacements(List<Floor> emptySpaces, CollectableType type, Class<T> c) {
+    /**
+     * Runs a multi-source breadth-first search from all exits and one from all keys,
+     * so walking distances to them can be read in constant time while playing.
+     */
+    private void buildDistanceFields() {
+        int[] xs = new int[exits.size()];
+        int[] ys = new int[exits.size()];
+        for (int i = 0; i < exits.size(); i++) {
+            xs[i] = Math.round(exits.get(i).getX());
+            ys[i] = Math.round(exits.get(i).getY());
+        }
+        exitDistances = new DistanceField(collisionGrid);
+        exitDistances.setSources(xs, ys, exits.size());
+        keyDistances = new DistanceField(collisionGrid);
+        updateKeyDistances();
+    }
+
+    private void buildSpatialIndices() {
+        keyIndex = new SpatialIndex<>(keys, width, height);
+        heartIndex = new SpatialIndex<>(hearts, width, height);
+        boostIndex = new SpatialIndex<>(boosts, width, height);
+        trapIndex = new SpatialIndex<>(traps, width, height);
+        morphTrapIndex = new SpatialIndex<>(morphTraps, width, height);
+        enemyBroadphase = new Broadphase<>(enemies, width, height);
+        visibleKeys = new ArrayList<>(keys.size());
+        visibleHearts = new ArrayList<>(hearts.size());
+        visibleBoosts = new ArrayList<>(boosts.size());
+        visibleTraps = new ArrayList<>(traps.size());
+        visibleMorphTraps = new ArrayList<>(morphTraps.size());
+        visibleEnemies = new ArrayList<>(enemies.size());
+    }
+
+    private <T extends MapElement> List<T> manualPlacements(IntArray emptySpaces, CollectableType type, Class<T> c) {
         Random random = new Random();
         List<T> placements = new ArrayList<>();
-        int elementCount = Math.min(3, emptySpaces.size());
+        int elementCount = Math.min(3, emptySpaces.size);
         for (int i = 0; i < elementCount; i++) {
-            int index = random.nextInt(emptySpaces.size());
-            Floor floor = emptySpaces.remove(index);
+            int index = random.nextInt(emptySpaces.size);
+            int tile = emptySpaces.removeIndex(index);
+            float x = tile % width;
+            float y = tile / width;
             MapElement element;
             switch (type) {
-                case Heart -> element = new Heart(floor.getX(), floor.getY());
-                case BOOST -> element = new Boost(floor.getX(), floor.getY());
+                case Heart -> element = new Heart(x, y);
+                case BOOST -> element = new Boost(x, y);
                 default -> throw new IllegalArgumentException("Unsupported type: " + type);
             }
             if (c.isInstance(element)) {
@@ -193,30 +420,39 @@ private <T extends MapElement> List<T> manualPlacements(List<Floor> emptySpaces,
         return placements;
     }
 
-    private void calculateDimensions() {
-        for (List<Integer> coordinates : map.keySet()) {
-            int x = coordinates.get(0);
-            int y = coordinates.get(1);
-            if (x + 1 > width) width = x + 1;
-            if (y + 1 > height) height = y + 1;
+    /**
+     * Renders the elements of the map within the view set by {@link #setView(OrthographicCamera)}.
+     * The spatial indices and the enemy broadphase find them, so the cost depends on the size of the screen, not of the map.
+     * The elements submit their sprites to the render queue, which draws them by layer and texture.
+     *
+     * @param batch The {@code SpriteBatch} used for rendering.
+     * @param delta The time since the last frame in seconds.
+     */
+    public void render(SpriteBatch batch, float delta) {
+        keyIndex.queryArea(viewFromX, viewFromY, viewToX, viewToY, visibleKeys);
+        for (int i = 0; i < visibleKeys.size(); i++) visibleKeys.get(i).render(renderQueue);
+        trapIndex.queryArea(viewFromX, viewFromY, viewToX, viewToY, visibleTraps);
+        for (int i = 0; i < visibleTraps.size(); i++) visibleTraps.get(i).render(renderQueue);
+        morphTrapIndex.queryArea(viewFromX, viewFromY, viewToX, viewToY, visibleMorphTraps);
+        for (int i = 0; i < visibleMorphTraps.size(); i++) visibleMorphTraps.get(i).render(renderQueue);
+        for (int i = 0; i < exits.size(); i++) {
+            if (isInView(exits.get(i))) exits.get(i).render(renderQueue);
         }
+        heartIndex.queryArea(viewFromX, viewFromY, viewToX, viewToY, visibleHearts);
+        for (int i = 0; i < visibleHearts.size(); i++) visibleHearts.get(i).render(renderQueue, delta);
+        boostIndex.queryArea(viewFromX, viewFromY, viewToX, viewToY, visibleBoosts);
+        for (int i = 0; i < visibleBoosts.size(); i++) visibleBoosts.get(i).render(renderQueue);
+        enemyBroadphase.queryArea(viewFromX, viewFromY, viewToX, viewToY, visibleEnemies);
+        for (int i = 0; i < visibleEnemies.size(); i++) visibleEnemies.get(i).render(renderQueue);
+        exitArrow.render(renderQueue);
+        if (entrance != null) entrance.render(renderQueue);
+        if (player != null) player.render(renderQueue);
+        renderQueue.flush(batch);
     }
 
-    public void render(SpriteBatch batch, float delta) {
-        floors.forEach(floor -> floor.render(batch));
-        walls.forEach(entity -> entity.render(batch, this));
-        keys.forEach(entity -> entity.render(batch));
-        traps.forEach(entity -> entity.render(batch));
-        morphTraps.forEach(entity -> entity.render(batch));
-        exits.forEach(entity -> entity.render(batch));
-        for (Heart heart : hearts) {
-            heart.render(batch, delta);
-        }
-        boosts.forEach(boost -> boost.render(batch));
-        enemies.forEach(entity -> entity.render(batch));
-        exitArrow.render(batch);
-        if (entrance != null) entrance.render(batch);
-        if (player != null) player.render(batch);
+    private boolean isInView(MapElement element) {
+        return element.getX() >= viewFromX && element.getX() <= viewToX + 1f
+                && element.getY() >= viewFromY && element.getY() <= viewToY + 1f;
     }
 
     public String getMapFile() {return this.mapFile;}
@@ -225,20 +461,25 @@ public void render(SpriteBatch batch, float delta) {
     public void reloadFrom(String newMapFile) {
         this.mapFile = newMapFile;
         this.levelPath = newMapFile;
-        this.map.clear();
-        this.map.putAll(GameHelper.loadLevelData(newMapFile));
+        this.map = LevelCache.load(newMapFile);
 
         buildWorld();
     }
 
+    /**
+     * Frees the baked floors and walls and releases the textures of everything on the map.
+     * The player's character belongs to the game screen and is not disposed. Called when the map is no longer shown.
+     */
     public void dispose() {
-        walls.forEach(Wall::dispose);
+        chunkGrid.dispose();
         keys.forEach(Key::dispose);
         traps.forEach(Trap::dispose);
         morphTraps.forEach(MorphTrap::dispose); // ← Dispose MorphTrap
         exits.forEach(Exit::dispose);
         hearts.forEach(Heart::dispose);
+        boosts.forEach(Boost::dispose);
+        enemies.forEach(Enemy::dispose);
         if (entrance != null) entrance.dispose();
-        if (player != null) player.dispose();
+        if (exitArrow != null) exitArrow.dispose();
     }
 }
\ No newline at end of file
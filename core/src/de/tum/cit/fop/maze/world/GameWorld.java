@@ -1,6 +1,5 @@
 package de.tum.cit.fop.maze.world;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Array;
 
 import java.util.List;
@@ -29,16 +28,19 @@ public void update(float delta) {
         }
     }
 
-    public void render(SpriteBatch batch) {
+    public void render(RenderQueue queue) {
         for (Wall wall : walls) {
-            wall.render(batch);
+            wall.render(queue);
         }
         for (Obstacle obs : obstacles) {
-            obs.render(batch);
+            obs.render(queue);
         }
     }
 
     public void dispose() {
+        for (Wall wall : walls) {
+            wall.dispose();
+        }
         for (Obstacle obs : obstacles) {
             obs.dispose();
         }
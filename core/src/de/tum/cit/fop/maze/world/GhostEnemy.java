@@ -1,8 +1,6 @@
 package de.tum.cit.fop.maze.world;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-
-import java.util.List;
+import com.badlogic.gdx.graphics.Color;
 
 /**
  * A class representing an enemy with a certain position on the game map that guards a point.
@@ -22,6 +20,11 @@ public GhostEnemy(float x, float y) {
         super.sightRange = Constants.enemySightRange + 1;
     }
 
+    /**
+     * The tint telling ghosts apart from other enemies.
+     */
+    private static final float TINT = Color.toFloatBits(0f, 1f, 1f, 1f);
+
     /**
      * The x position of the point on the map to be "guarded".
      */
@@ -37,31 +40,60 @@ public GhostEnemy(float x, float y) {
      * Overrides the idle logic to make the enemy "guard" the origin.
      *
      * @param delta The time elapsed since the last frame.
-     * @param walls The list of walls.
+     * @param grid  The collision grid of the map.
      */
     @Override
-    protected void idle(float delta, List<Wall> walls) {
+    protected void idle(float delta, CollisionGrid grid) {
         if (originX > this.x) {
-            moveRight(delta, walls);
+            moveRight(delta, grid);
         } else if (originX < this.x) {
-            moveLeft(delta, walls);
+            moveLeft(delta, grid);
         }
         if (originY > this.y) {
-            moveUp(delta, walls);
+            moveUp(delta, grid);
         } else if (originY < this.y) {
-            moveDown(delta, walls);
+            moveDown(delta, grid);
         }
     }
 
+    /**
+     * Overrides the chase logic: the navigator routes around walls, which ghosts fly through,
+     * so they head straight for the player.
+     *
+     * @param delta           The time elapsed since the last frame.
+     * @param grid            The collision grid of the map.
+     * @param playerNavigator The navigator towards the player's tile, not used.
+     * @param player          The player to be chased.
+     */
+    @Override
+    protected void chase(float delta, CollisionGrid grid, Navigator playerNavigator, GameCharacter player) {
+        chaseDirectly(delta, grid, player);
+    }
+
+    /**
+     * Overrides the swept movement, so walls are not to be avoided by any displacement either.
+     *
+     * @param dx   The displacement on the x axis.
+     * @param dy   The displacement on the y axis.
+     * @param grid The collision grid of the map.
+     * @return True. The enemy has been moved.
+     */
+    @Override
+    public boolean moveBy(float dx, float dy, CollisionGrid grid) {
+        this.x += dx;
+        this.y += dy;
+        return true;
+    }
+
     /**
      * Overrides the move logic, so walls are not to be avoided.
      *
      * @param delta The time elapsed since the last frame.
-     * @param walls The list of walls.
+     * @param grid  The collision grid of the map.
      * @return True. The enemy has been moved.
      */
     @Override
-    public boolean moveUp(float delta, List<Wall> walls) {
+    public boolean moveUp(float delta, CollisionGrid grid) {
         this.y += super.calculateSpeed(delta);
         super.currentMovementDirection = Direction.UP;
         return true;
@@ -71,11 +103,11 @@ public boolean moveUp(float delta, List<Wall> walls) {
      * Overrides the move logic, so walls are not to be avoided.
      *
      * @param delta The time elapsed since the last frame.
-     * @param walls The list of walls.
+     * @param grid  The collision grid of the map.
      * @return True. The enemy has been moved.
      */
     @Override
-    public boolean moveDown(float delta, List<Wall> walls) {
+    public boolean moveDown(float delta, CollisionGrid grid) {
         this.y -= super.calculateSpeed(delta);
         super.currentMovementDirection = Direction.DOWN;
         return true;
@@ -85,11 +117,11 @@ public boolean moveDown(float delta, List<Wall> walls) {
      * Overrides the move logic, so walls are not to be avoided.
      *
      * @param delta The time elapsed since the last frame.
-     * @param walls The list of walls.
+     * @param grid  The collision grid of the map.
      * @return True. The enemy has been moved.
      */
     @Override
-    public boolean moveLeft(float delta, List<Wall> walls) {
+    public boolean moveLeft(float delta, CollisionGrid grid) {
         this.x -= super.calculateSpeed(delta);
         super.currentMovementDirection = Direction.LEFT;
         return true;
@@ -99,11 +131,11 @@ public boolean moveLeft(float delta, List<Wall> walls) {
      * Overrides the move logic, so walls are not to be avoided.
      *
      * @param delta The time elapsed since the last frame.
-     * @param walls The list of walls.
+     * @param grid  The collision grid of the map.
      * @return True. The enemy has been moved.
      */
     @Override
-    public boolean moveRight(float delta, List<Wall> walls) {
+    public boolean moveRight(float delta, CollisionGrid grid) {
         this.x += super.calculateSpeed(delta);
         super.currentMovementDirection = Direction.RIGHT;
         return true;
@@ -112,14 +144,12 @@ public boolean moveRight(float delta, List<Wall> walls) {
     /**
      * Renders the enemy.
      *
-     * @param batch The {@code SpriteBatch} used for rendering.
+     * @param queue The {@code RenderQueue} the sprite is submitted to.
      */
     @Override
-    public void render(SpriteBatch batch) {
+    public void render(RenderQueue queue) {
         if (active && currentFrame != null) {
-            batch.setColor(0, 1, 2, 1);
-            batch.draw(currentFrame, x * 32, y * 32, 32, 32);
-            batch.setColor(1, 1, 1, 1);
+            queue.submit(RenderQueue.LAYER_ENEMIES, currentFrame, x * 32, y * 32, 32, 32, TINT);
         }
     }
 }
\ No newline at end of file
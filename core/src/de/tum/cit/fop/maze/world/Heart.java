@@ -1,9 +1,6 @@
 package de.tum.cit.fop.maze.world;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 
@@ -15,7 +12,7 @@ public class Heart extends MapElement {
     /**
      * The sheet from which the heart texture is loaded (shared among all instances).
      */
-    private static Texture heartSheet;
+    private static TextureRegion heartSheet;
 
     /**
      * The texture of a closed heart (shared).
@@ -32,6 +29,11 @@ public class Heart extends MapElement {
      */
     private Animation<TextureRegion> animatedHeart;
 
+    /**
+     * Whether this heart holds a reference to its texture in the {@link TextureManager}.
+     */
+    private boolean holdsTexture;
+
     /**
      * A property signifying whether the heart has been collected.
      */
@@ -84,16 +86,14 @@ public void collect() {
     }
 
     /**
-     * Loads the textures and animation for the Heart. Ensures resources are loaded only once.
+     * Acquires the textures and builds the animation for the Heart. The shared textures are cut only once per atlas.
      */
     private void loadHeartResources() {
-        if (heartSheet == null) {
-            heartSheet = new Texture(Gdx.files.internal("objects.png"));
-        }
-        if (staticHeartTexture == null) {
+        TextureRegion sheet = TextureManager.acquire("objects");
+        holdsTexture = true;
+        if (sheet != heartSheet) {
+            heartSheet = sheet;
             staticHeartTexture = new TextureRegion(heartSheet, 4 * 16, 8 * 16, 16, 16);
-        }
-        if (emptyHeartTexture == null) {
             emptyHeartTexture = new TextureRegion(heartSheet, 8 * 16, 0, 16, 16);
         }
 
@@ -109,37 +109,38 @@ private void loadHeartResources() {
     /**
      * Renders the heart on the screen if not collected.
      *
-     * @param batch The SpriteBatch used for rendering.
+     * @param queue The {@code RenderQueue} the sprite is submitted to.
      * @param delta The time elapsed since the last frame, used for animation.
      */
-    public void render(SpriteBatch batch, float delta) {
+    public void render(RenderQueue queue, float delta) {
         if (!collected && animatedHeart != null) {
-            batch.draw(animatedHeart.getKeyFrame(delta, true), x * 32, y * 32, 32, 32);
+            queue.submit(RenderQueue.LAYER_ITEMS, animatedHeart.getKeyFrame(delta, true), x * 32, y * 32, 32, 32);
         }
     }
 
     /**
-     * Disposes of the texture resources used by the heart (only once, via static reference).
+     * Releases the texture of the heart. The shared textures stay in use by the HUD and other hearts.
      */
     @Override
     public void dispose() {
+        if (holdsTexture) {
+            TextureManager.release("objects");
+            holdsTexture = false;
+        }
     }
 
     /**
-     * Legacy render method (override from MapElement). You can call render(batch, delta) elsewhere.
+     * Legacy render method (override from MapElement). You can call render(queue, delta) elsewhere.
      */
     @Override
-    public void render(SpriteBatch batch) {
+    public void render(RenderQueue queue) {
     }
 
     /**
      * Static method to dispose shared resources (call once when game shuts down).
      */
     public static void disposeResources() {
-        if (heartSheet != null) {
-            heartSheet.dispose();
-            heartSheet = null;
-        }
+        heartSheet = null;
         staticHeartTexture = null;
         emptyHeartTexture = null;
     }
@@ -0,0 +1,800 @@
+package de.tum.cit.fop.maze.world;
+
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.Arrays;
+
+/**
+ * A hierarchical pathfinder (HPA*) for large maps, where rebuilding a {@link DistanceField} over the whole map
+ * on every player step gets too expensive.
+ * <p>
+ * The map is split into square clusters. Every run of open tiles along the border of two clusters becomes
+ * one entrance, and the walking distances between the entrances of a cluster are precomputed. A query searches
+ * this small abstract graph; its waypoints are kept in an LRU cache. The way to the next waypoint is only
+ * refined tile by tile once an enemy gets there, and every refined tile remembers its next tile toward the
+ * current target, so enemies following a path get their steps in constant time.
+ * <p>
+ * The search is guided by the precomputed distances from a few landmark entrances to all others: by the triangle
+ * inequality they bound the remaining distance much tighter than the straight line, so even in a winding maze
+ * the search stays close to the path. Its cost therefore grows with the length of the path, not with the size
+ * of the map: on a 1023x1023 maze, queries over paths of up to about a thousand tiles take a few tenths of a
+ * millisecond, while paths across a perfect maze, tens of thousands of tiles long, take a few milliseconds.
+ * <p>
+ * Door changes only rebuild the clusters around the door, repair the landmark distances around it
+ * and drop the cached paths crossing it.
+ */
+public class HierarchicalPathfinder implements Navigator, TileStateListener {
+
+    /**
+     * The side length of a cluster in tiles.
+     */
+    public static final int CLUSTER_SIZE = 16;
+
+    /**
+     * The maximum number of entrances of a cluster: at most every second tile of each side starts a run.
+     */
+    private static final int MAX_ENTRANCES = 4 * (CLUSTER_SIZE / 2);
+
+    /**
+     * The number of refined paths kept in the cache.
+     */
+    private static final int PATH_CACHE_SIZE = 256;
+
+    /**
+     * The number of landmark entrances whose distances guide the abstract search.
+     */
+    private static final int LANDMARKS = 8;
+
+    /**
+     * Marks unreachable tiles and entrances.
+     */
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /**
+     * The key of cached paths that are not in use.
+     */
+    private static final long NO_KEY = -1;
+
+    private static final int[] NO_ENTRANCES = new int[0];
+
+    private static final int LEFT = 0;
+    private static final int RIGHT = 1;
+    private static final int BOTTOM = 2;
+    private static final int TOP = 3;
+
+    /**
+     * Constructor for class {@code HierarchicalPathfinder}. Builds the abstract graph and subscribes to changes of the grid.
+     *
+     * @param grid The collision grid to walk on.
+     */
+    public HierarchicalPathfinder(CollisionGrid grid) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.clustersX = Math.max((width + CLUSTER_SIZE - 1) / CLUSTER_SIZE, 1);
+        this.clustersY = Math.max((height + CLUSTER_SIZE - 1) / CLUSTER_SIZE, 1);
+        int clusters = clustersX * clustersY;
+
+        this.verticalBorders = new int[clusters][];
+        this.horizontalBorders = new int[clusters][];
+        this.entranceTiles = new int[clusters][];
+        this.sideStart = new int[clusters][];
+        this.intraCost = new int[clusters][];
+
+        this.nextTile = new int[width * height];
+        this.nextStamp = new int[width * height];
+
+        int nodes = clusters * MAX_ENTRANCES + 2;
+        this.startNode = nodes - 2;
+        this.goalNode = nodes - 1;
+        this.gScore = new int[nodes];
+        this.parentNode = new int[nodes];
+        this.searchStamp = new int[nodes];
+        this.closedStamp = new int[nodes];
+        this.landmarkDistance = new int[LANDMARKS * nodes];
+
+        for (int i = 0; i < PATH_CACHE_SIZE; i++) {
+            cachedPaths[i] = new CachedPath();
+        }
+
+        for (int cy = 0; cy < clustersY; cy++) {
+            for (int cx = 0; cx < clustersX; cx++) {
+                buildBorders(cx, cy);
+            }
+        }
+        for (int c = 0; c < clusters; c++) {
+            buildCluster(c);
+        }
+        buildLandmarks();
+        grid.addListener(this);
+    }
+
+    /**
+     * The collision grid to walk on.
+     */
+    private final CollisionGrid grid;
+
+    private final int width;
+    private final int height;
+    private final int clustersX;
+    private final int clustersY;
+
+    /**
+     * The rows of the entrances between a cluster and its right neighbour.
+     */
+    private final int[][] verticalBorders;
+
+    /**
+     * The columns of the entrances between a cluster and its upper neighbour.
+     */
+    private final int[][] horizontalBorders;
+
+    /**
+     * The tiles of the entrances of every cluster, ordered by side (left, right, bottom, top).
+     */
+    private final int[][] entranceTiles;
+
+    /**
+     * The index of the first entrance of every side of a cluster, plus the total count at the end.
+     */
+    private final int[][] sideStart;
+
+    /**
+     * The walking distances between the entrances of a cluster, as a flattened square matrix.
+     */
+    private final int[][] intraCost;
+
+    /**
+     * The current target tile, or -1 if none has been set.
+     */
+    private int goal = -1;
+
+    /**
+     * The walking distances from the target to the entrances of its cluster.
+     */
+    private final int[] goalCosts = new int[MAX_ENTRANCES];
+
+    /**
+     * Whether {@link #goalCosts} matches the current target and grid.
+     */
+    private boolean goalCostsValid;
+
+    /**
+     * The walking distances from the start of a query to the entrances of its cluster.
+     */
+    private final int[] startCosts = new int[MAX_ENTRANCES];
+
+    /**
+     * The next tile toward the target for every tile on a known path, valid if the stamp matches the generation.
+     * Waypoints whose way has not been refined yet are stored as {@code -tile - 2}, and -1 marks tiles without a path.
+     */
+    private final int[] nextTile;
+    private final int[] nextStamp;
+
+    /**
+     * Increased whenever the target or the grid changes, invalidating all remembered steps at once.
+     */
+    private int generation = 1;
+
+    /**
+     * The waypoints of recent queries, keyed by start and target tile.
+     */
+    private final LongMap<CachedPath> pathCache = new LongMap<>(PATH_CACHE_SIZE * 2);
+
+    /**
+     * All cached paths, in the cache or free. Evicted paths are reused with their buffers.
+     */
+    private final CachedPath[] cachedPaths = new CachedPath[PATH_CACHE_SIZE];
+
+    /**
+     * Counts the cache lookups, giving the order in which cached paths have been used.
+     */
+    private int cacheClock;
+
+    /**
+     * The walking distances over the abstract graph from every landmark to every entrance,
+     * {@link #LANDMARKS} entries per node, so the estimate of a node reads a single cache line.
+     * After door changes they are only repaired around the door: they then bound the distances from below,
+     * which keeps the estimates safe.
+     */
+    private final int[] landmarkDistance;
+
+    /**
+     * The walking distances from every landmark to the current target, valid together with {@link #goalCosts}.
+     */
+    private final int[] goalLandmarkDistance = new int[LANDMARKS];
+
+    private final int startNode;
+    private final int goalNode;
+    private final int[] gScore;
+    private final int[] parentNode;
+    private final int[] searchStamp;
+    private final int[] closedStamp;
+    private int search;
+    private int[] heapNode = new int[256];
+    private long[] heapPriority = new long[256];
+    private int heapSize;
+
+    private final int[] localDistance = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+    private final int[] localParent = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+    private final int[] localQueue = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+    private final int[] runs = new int[CLUSTER_SIZE];
+    private final int[] affectedClusters = new int[5];
+
+
+    @Override
+    public void setTarget(int x, int y) {
+        x = Math.min(Math.max(x, 0), width - 1);
+        y = Math.min(Math.max(y, 0), height - 1);
+        int target = y * width + x;
+        if (target == goal) return;
+        goal = target;
+        goalCostsValid = false;
+        generation++;
+    }
+
+    @Override
+    public int nextStep(int x, int y) {
+        if (goal < 0 || x < 0 || y < 0 || x >= width || y >= height) return -1;
+        int start = y * width + x;
+        if (start == goal) return -1;
+        if (nextStamp[start] != generation) {
+            long key = ((long) start << 32) | goal;
+            CachedPath path = pathCache.get(key);
+            if (path == null) {
+                path = freePath();
+                if (!findPath(start, path)) {
+                    nextTile[start] = -1;
+                    nextStamp[start] = generation;
+                    return -1;
+                }
+                path.key = key;
+                pathCache.put(key, path);
+            }
+            path.lastUsed = ++cacheClock;
+            int[] tiles = path.tiles;
+            for (int i = 0; i + 1 < path.length; i++) {
+                nextTile[tiles[i]] = pendingWaypoint(tiles[i + 1]);
+                nextStamp[tiles[i]] = generation;
+            }
+        }
+        int next = nextTile[start];
+        if (next < -1) {
+            refineSegment(start, -next - 2);
+            next = nextTile[start];
+        }
+        return next;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Rebuilds the entrances and distances of the clusters around the changed tile
+     * and drops the cached paths crossing them.
+     */
+    @Override
+    public void onTileChanged(int x, int y, boolean solid) {
+        int cx = x / CLUSTER_SIZE;
+        int cy = y / CLUSTER_SIZE;
+        buildBorders(cx, cy);
+        if (cx > 0) buildBorders(cx - 1, cy);
+        if (cy > 0) buildBorders(cx, cy - 1);
+
+        int[] affected = affectedClusters;
+        affected[0] = cy * clustersX + cx;
+        affected[1] = cx > 0 ? cy * clustersX + cx - 1 : -1;
+        affected[2] = cx < clustersX - 1 ? cy * clustersX + cx + 1 : -1;
+        affected[3] = cy > 0 ? (cy - 1) * clustersX + cx : -1;
+        affected[4] = cy < clustersY - 1 ? (cy + 1) * clustersX + cx : -1;
+        for (int i = 0; i < affected.length; i++) {
+            if (affected[i] >= 0) buildCluster(affected[i]);
+        }
+
+        for (int i = 0; i < cachedPaths.length; i++) {
+            CachedPath path = cachedPaths[i];
+            if (path.key != NO_KEY && crossesAny(path, affected)) {
+                pathCache.remove(path.key);
+                path.key = NO_KEY;
+            }
+        }
+        repairLandmarks(affected);
+        goalCostsValid = false;
+        generation++;
+    }
+
+    /**
+     * Finds the entrances on the right and upper border of a cluster.
+     */
+    private void buildBorders(int cx, int cy) {
+        int c = cy * clustersX + cx;
+        if (cx < clustersX - 1) {
+            int x = (cx + 1) * CLUSTER_SIZE - 1;
+            int count = 0;
+            int runStart = -1;
+            int toY = Math.min((cy + 1) * CLUSTER_SIZE, height);
+            for (int y = cy * CLUSTER_SIZE; y <= toY; y++) {
+                boolean open = y < toY && !grid.isSolid(x, y) && !grid.isSolid(x + 1, y);
+                if (open && runStart < 0) {
+                    runStart = y;
+                } else if (!open && runStart >= 0) {
+                    runs[count++] = (runStart + y - 1) / 2;
+                    runStart = -1;
+                }
+            }
+            verticalBorders[c] = Arrays.copyOf(runs, count);
+        }
+        if (cy < clustersY - 1) {
+            int y = (cy + 1) * CLUSTER_SIZE - 1;
+            int count = 0;
+            int runStart = -1;
+            int toX = Math.min((cx + 1) * CLUSTER_SIZE, width);
+            for (int x = cx * CLUSTER_SIZE; x <= toX; x++) {
+                boolean open = x < toX && !grid.isSolid(x, y) && !grid.isSolid(x, y + 1);
+                if (open && runStart < 0) {
+                    runStart = x;
+                } else if (!open && runStart >= 0) {
+                    runs[count++] = (runStart + x - 1) / 2;
+                    runStart = -1;
+                }
+            }
+            horizontalBorders[c] = Arrays.copyOf(runs, count);
+        }
+    }
+
+    /**
+     * Collects the entrances of a cluster from its borders and precomputes the distances between them.
+     */
+    private void buildCluster(int c) {
+        int cx = c % clustersX;
+        int cy = c / clustersX;
+        int x0 = cx * CLUSTER_SIZE;
+        int y0 = cy * CLUSTER_SIZE;
+        int x1 = Math.min(x0 + CLUSTER_SIZE, width) - 1;
+        int y1 = Math.min(y0 + CLUSTER_SIZE, height) - 1;
+
+        int[] left = cx > 0 ? verticalBorders[c - 1] : NO_ENTRANCES;
+        int[] right = cx < clustersX - 1 ? verticalBorders[c] : NO_ENTRANCES;
+        int[] bottom = cy > 0 ? horizontalBorders[c - clustersX] : NO_ENTRANCES;
+        int[] top = cy < clustersY - 1 ? horizontalBorders[c] : NO_ENTRANCES;
+
+        int[] starts = sideStart[c] != null ? sideStart[c] : new int[5];
+        starts[RIGHT] = left.length;
+        starts[BOTTOM] = starts[RIGHT] + right.length;
+        starts[TOP] = starts[BOTTOM] + bottom.length;
+        starts[4] = starts[TOP] + top.length;
+        int[] tiles = new int[starts[4]];
+        for (int i = 0; i < left.length; i++) tiles[starts[LEFT] + i] = left[i] * width + x0;
+        for (int i = 0; i < right.length; i++) tiles[starts[RIGHT] + i] = right[i] * width + x1;
+        for (int i = 0; i < bottom.length; i++) tiles[starts[BOTTOM] + i] = y0 * width + bottom[i];
+        for (int i = 0; i < top.length; i++) tiles[starts[TOP] + i] = y1 * width + top[i];
+
+        int n = tiles.length;
+        int[] costs = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            searchCluster(c, tiles[i]);
+            for (int j = 0; j < n; j++) {
+                costs[i * n + j] = localDistance[localIndex(c, tiles[j])];
+            }
+        }
+        entranceTiles[c] = tiles;
+        sideStart[c] = starts;
+        intraCost[c] = costs;
+    }
+
+    /**
+     * Searches for a path from the given tile to the current target over the abstract graph.
+     * The start tile itself may be solid.
+     *
+     * @param start The start tile.
+     * @param path  Receives the waypoints from the start to the target, each one in the same or a neighbouring cluster
+     *              as the one before.
+     * @return True if a path has been found.
+     */
+    private boolean findPath(int start, CachedPath path) {
+        int startCluster = clusterOf(start);
+        int goalCluster = clusterOf(goal);
+        if (startCluster == goalCluster) {
+            searchCluster(startCluster, start);
+            if (localDistance[localIndex(startCluster, goal)] != UNREACHABLE) {
+                path.tiles[0] = start;
+                path.tiles[1] = goal;
+                path.length = 2;
+                return true;
+            }
+        }
+
+        if (!goalCostsValid) {
+            searchCluster(goalCluster, goal);
+            int[] tiles = entranceTiles[goalCluster];
+            for (int i = 0; i < tiles.length; i++) {
+                goalCosts[i] = localDistance[localIndex(goalCluster, tiles[i])];
+            }
+            for (int l = 0; l < LANDMARKS; l++) {
+                int best = UNREACHABLE;
+                for (int i = 0; i < tiles.length; i++) {
+                    int toEntrance = landmarkDistance[(goalCluster * MAX_ENTRANCES + i) * LANDMARKS + l];
+                    if (toEntrance != UNREACHABLE && goalCosts[i] != UNREACHABLE) {
+                        best = Math.min(best, toEntrance + goalCosts[i]);
+                    }
+                }
+                goalLandmarkDistance[l] = best;
+            }
+            goalCostsValid = true;
+        }
+        searchCluster(startCluster, start);
+        int[] startTiles = entranceTiles[startCluster];
+        for (int i = 0; i < startTiles.length; i++) {
+            startCosts[i] = localDistance[localIndex(startCluster, startTiles[i])];
+        }
+
+        if (!searchAbstract(start, startCluster, goalCluster)) return false;
+
+        // Entrances in a corner of a cluster appear once per side; they are the same waypoint.
+        int count = 0;
+        int last = -1;
+        for (int node = goalNode; ; node = parentNode[node]) {
+            int tile = tileOf(node, start);
+            if (tile != last) count++;
+            last = tile;
+            if (node == startNode) break;
+        }
+        if (path.tiles.length < count) path.tiles = new int[Math.max(count, path.tiles.length * 2)];
+        path.length = count;
+        last = -1;
+        for (int node = goalNode; ; node = parentNode[node]) {
+            int tile = tileOf(node, start);
+            if (tile != last) path.tiles[--count] = tile;
+            last = tile;
+            if (node == startNode) break;
+        }
+        return true;
+    }
+
+    /**
+     * Gets an unused cached path, evicting the least recently used one if the cache is full.
+     */
+    private CachedPath freePath() {
+        CachedPath oldest = null;
+        for (int i = 0; i < cachedPaths.length; i++) {
+            CachedPath path = cachedPaths[i];
+            if (path.key == NO_KEY) return path;
+            if (oldest == null || path.lastUsed < oldest.lastUsed) oldest = path;
+        }
+        pathCache.remove(oldest.key);
+        oldest.key = NO_KEY;
+        return oldest;
+    }
+
+    /**
+     * Refines the way from a tile to the next waypoint, remembering the next tile for every tile on the way.
+     */
+    private void refineSegment(int from, int to) {
+        int c = clusterOf(from);
+        if (c != clusterOf(to)) {
+            nextTile[from] = to;
+            return;
+        }
+        searchCluster(c, from);
+        int x0 = (c % clustersX) * CLUSTER_SIZE;
+        int y0 = (c / clustersX) * CLUSTER_SIZE;
+        int next = to;
+        int cell = localParent[localIndex(c, to)];
+        while (cell != -1) {
+            int tile = (y0 + cell / CLUSTER_SIZE) * width + x0 + cell % CLUSTER_SIZE;
+            nextTile[tile] = next;
+            nextStamp[tile] = generation;
+            next = tile;
+            cell = localParent[cell];
+        }
+    }
+
+    /**
+     * Encodes a waypoint whose way from the current tile has not been refined yet.
+     */
+    private static int pendingWaypoint(int tile) {
+        return -tile - 2;
+    }
+
+    /**
+     * Runs A* over the entrances, from a virtual start node linked to the entrances of the start cluster
+     * to a virtual goal node linked to the entrances of the goal cluster.
+     *
+     * @return True if the goal node has been reached.
+     */
+    private boolean searchAbstract(int start, int startCluster, int goalCluster) {
+        search++;
+        heapSize = 0;
+        gScore[startNode] = 0;
+        searchStamp[startNode] = search;
+        push(startNode, 0);
+
+        while (heapSize > 0) {
+            int node = pop();
+            if (closedStamp[node] == search) continue;
+            closedStamp[node] = search;
+            if (node == goalNode) return true;
+            int g = gScore[node];
+
+            if (node == startNode) {
+                int[] tiles = entranceTiles[startCluster];
+                for (int i = 0; i < tiles.length; i++) {
+                    if (startCosts[i] != UNREACHABLE) relax(startCluster * MAX_ENTRANCES + i, g + startCosts[i], node, tiles[i]);
+                }
+                continue;
+            }
+
+            int c = node / MAX_ENTRANCES;
+            int i = node % MAX_ENTRANCES;
+            int[] tiles = entranceTiles[c];
+            int n = tiles.length;
+            if (c == goalCluster && goalCosts[i] != UNREACHABLE) {
+                relax(goalNode, g + goalCosts[i], node, goal);
+            }
+            int[] costs = intraCost[c];
+            for (int j = 0; j < n; j++) {
+                if (j != i && costs[i * n + j] != UNREACHABLE) relax(c * MAX_ENTRANCES + j, g + costs[i * n + j], node, tiles[j]);
+            }
+            int partner = partnerOf(c, i);
+            relax(partner, g + 1, node, tileOf(partner, start));
+        }
+        return false;
+    }
+
+    private void relax(int node, int g, int parent, int tile) {
+        if (searchStamp[node] == search && gScore[node] <= g) return;
+        searchStamp[node] = search;
+        gScore[node] = g;
+        parentNode[node] = parent;
+        // Among nodes of equal estimate, those closer to the target come first, so ties do not widen the search.
+        push(node, ((long) (g + heuristic(node, tile)) << 32) - g);
+    }
+
+    /**
+     * Estimates the distance from a node to the target, never overestimating it: the straight distance,
+     * or the difference of the distances of a landmark to the node and to the target, whichever is larger.
+     */
+    private int heuristic(int node, int tile) {
+        if (node == goalNode) return 0;
+        int estimate = Math.abs(tile % width - goal % width) + Math.abs(tile / width - goal / width);
+        int row = node * LANDMARKS;
+        for (int l = 0; l < LANDMARKS; l++) {
+            int toGoal = goalLandmarkDistance[l];
+            int toNode = landmarkDistance[row + l];
+            if (toGoal != UNREACHABLE && toNode != UNREACHABLE) {
+                estimate = Math.max(estimate, Math.abs(toGoal - toNode));
+            }
+        }
+        return estimate;
+    }
+
+    /**
+     * Picks the landmarks and computes their distances to all entrances. The first landmark is the entrance
+     * closest to the lower left corner, every further one the entrance farthest from the landmarks picked so far,
+     * so they end up spread around the edges of the map.
+     */
+    private void buildLandmarks() {
+        Arrays.fill(landmarkDistance, UNREACHABLE);
+        // gScore holds the distance of every entrance to its nearest landmark while picking them.
+        Arrays.fill(gScore, UNREACHABLE);
+        int landmark = -1;
+        int best = UNREACHABLE;
+        for (int c = 0; c < entranceTiles.length; c++) {
+            int[] tiles = entranceTiles[c];
+            for (int i = 0; i < tiles.length; i++) {
+                int corner = tiles[i] % width + tiles[i] / width;
+                if (corner < best) {
+                    best = corner;
+                    landmark = c * MAX_ENTRANCES + i;
+                }
+            }
+        }
+        for (int l = 0; l < LANDMARKS && landmark >= 0; l++) {
+            heapSize = 0;
+            reach(l, landmark, 0);
+            searchLandmark(l);
+            int farthest = -1;
+            for (int node = 0; node < startNode; node++) {
+                int distance = landmarkDistance[node * LANDMARKS + l];
+                if (distance < gScore[node]) gScore[node] = distance;
+                if (gScore[node] != UNREACHABLE && (farthest < 0 || gScore[node] > gScore[farthest])) farthest = node;
+            }
+            landmark = farthest;
+        }
+    }
+
+    /**
+     * Repairs the landmark distances after the given clusters have been rebuilt. Their entrances take their
+     * distances from the neighbouring clusters, and only distances that got shorter spread further.
+     * Distances that got longer are kept; they still bound the new ones from below.
+     *
+     * @param clusters The rebuilt clusters, -1 for none.
+     */
+    private void repairLandmarks(int[] clusters) {
+        for (int l = 0; l < LANDMARKS; l++) {
+            for (int k = 0; k < clusters.length; k++) {
+                int c = clusters[k];
+                if (c < 0) continue;
+                for (int i = 0; i < MAX_ENTRANCES; i++) {
+                    landmarkDistance[(c * MAX_ENTRANCES + i) * LANDMARKS + l] = UNREACHABLE;
+                }
+            }
+            heapSize = 0;
+            for (int k = 0; k < clusters.length; k++) {
+                int c = clusters[k];
+                if (c < 0) continue;
+                for (int i = 0; i < entranceTiles[c].length; i++) {
+                    int distance = landmarkDistance[partnerOf(c, i) * LANDMARKS + l];
+                    if (distance != UNREACHABLE) reach(l, c * MAX_ENTRANCES + i, distance + 1);
+                }
+            }
+            searchLandmark(l);
+        }
+    }
+
+    /**
+     * Runs Dijkstra's algorithm over the entrances from the nodes on the heap, only ever shortening distances.
+     *
+     * @param l The landmark.
+     */
+    private void searchLandmark(int l) {
+        while (heapSize > 0) {
+            int distance = (int) heapPriority[0];
+            int node = pop();
+            if (distance > landmarkDistance[node * LANDMARKS + l]) continue;
+            int c = node / MAX_ENTRANCES;
+            int i = node % MAX_ENTRANCES;
+            int n = entranceTiles[c].length;
+            int[] costs = intraCost[c];
+            for (int j = 0; j < n; j++) {
+                if (j != i && costs[i * n + j] != UNREACHABLE) reach(l, c * MAX_ENTRANCES + j, distance + costs[i * n + j]);
+            }
+            reach(l, partnerOf(c, i), distance + 1);
+        }
+    }
+
+    private void reach(int l, int node, int distance) {
+        int index = node * LANDMARKS + l;
+        if (landmarkDistance[index] <= distance) return;
+        landmarkDistance[index] = distance;
+        push(node, distance);
+    }
+
+    /**
+     * Gets the entrance on the other side of the border.
+     */
+    private int partnerOf(int c, int i) {
+        int[] starts = sideStart[c];
+        if (i >= starts[TOP]) return entranceNode(c + clustersX, BOTTOM, i - starts[TOP]);
+        if (i >= starts[BOTTOM]) return entranceNode(c - clustersX, TOP, i - starts[BOTTOM]);
+        if (i >= starts[RIGHT]) return entranceNode(c + 1, LEFT, i - starts[RIGHT]);
+        return entranceNode(c - 1, RIGHT, i - starts[LEFT]);
+    }
+
+    private int entranceNode(int c, int side, int k) {
+        return c * MAX_ENTRANCES + sideStart[c][side] + k;
+    }
+
+    private int tileOf(int node, int start) {
+        if (node == startNode) return start;
+        if (node == goalNode) return goal;
+        return entranceTiles[node / MAX_ENTRANCES][node % MAX_ENTRANCES];
+    }
+
+    /**
+     * Runs a breadth-first search inside a cluster, filling {@link #localDistance} and {@link #localParent}.
+     * The source itself may be solid.
+     */
+    private void searchCluster(int c, int source) {
+        int x0 = (c % clustersX) * CLUSTER_SIZE;
+        int y0 = (c / clustersX) * CLUSTER_SIZE;
+        int w = Math.min(x0 + CLUSTER_SIZE, width) - x0;
+        int h = Math.min(y0 + CLUSTER_SIZE, height) - y0;
+        Arrays.fill(localDistance, UNREACHABLE);
+
+        int head = 0;
+        int tail = 0;
+        int first = localIndex(c, source);
+        localDistance[first] = 0;
+        localParent[first] = -1;
+        localQueue[tail++] = first;
+        while (head < tail) {
+            int cell = localQueue[head++];
+            int lx = cell % CLUSTER_SIZE;
+            int ly = cell / CLUSTER_SIZE;
+            int next = localDistance[cell] + 1;
+            if (lx + 1 < w) tail = visit(cell, cell + 1, x0 + lx + 1, y0 + ly, next, tail);
+            if (lx > 0) tail = visit(cell, cell - 1, x0 + lx - 1, y0 + ly, next, tail);
+            if (ly + 1 < h) tail = visit(cell, cell + CLUSTER_SIZE, x0 + lx, y0 + ly + 1, next, tail);
+            if (ly > 0) tail = visit(cell, cell - CLUSTER_SIZE, x0 + lx, y0 + ly - 1, next, tail);
+        }
+    }
+
+    private int visit(int from, int cell, int x, int y, int value, int tail) {
+        if (localDistance[cell] != UNREACHABLE || grid.isSolid(x, y)) return tail;
+        localDistance[cell] = value;
+        localParent[cell] = from;
+        localQueue[tail] = cell;
+        return tail + 1;
+    }
+
+    private boolean crossesAny(CachedPath path, int[] clusters) {
+        for (int i = 0; i < path.length; i++) {
+            int c = clusterOf(path.tiles[i]);
+            for (int j = 0; j < clusters.length; j++) {
+                if (c == clusters[j]) return true;
+            }
+        }
+        return false;
+    }
+
+    private int clusterOf(int tile) {
+        return (tile / width / CLUSTER_SIZE) * clustersX + (tile % width) / CLUSTER_SIZE;
+    }
+
+    private int localIndex(int c, int tile) {
+        int lx = tile % width - (c % clustersX) * CLUSTER_SIZE;
+        int ly = tile / width - (c / clustersX) * CLUSTER_SIZE;
+        return ly * CLUSTER_SIZE + lx;
+    }
+
+    private void push(int node, long priority) {
+        if (heapSize == heapNode.length) {
+            heapNode = Arrays.copyOf(heapNode, heapSize * 2);
+            heapPriority = Arrays.copyOf(heapPriority, heapSize * 2);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (heapPriority[parent] <= priority) break;
+            heapNode[i] = heapNode[parent];
+            heapPriority[i] = heapPriority[parent];
+            i = parent;
+        }
+        heapNode[i] = node;
+        heapPriority[i] = priority;
+    }
+
+    private int pop() {
+        int top = heapNode[0];
+        int lastNode = heapNode[--heapSize];
+        long lastPriority = heapPriority[heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapPriority[child + 1] < heapPriority[child]) child++;
+            if (heapPriority[child] >= lastPriority) break;
+            heapNode[i] = heapNode[child];
+            heapPriority[i] = heapPriority[child];
+            i = child;
+        }
+        heapNode[i] = lastNode;
+        heapPriority[i] = lastPriority;
+        return top;
+    }
+
+    /**
+     * The waypoints of a query, reused for another query once evicted from the cache.
+     */
+    private static final class CachedPath {
+
+        /**
+         * The start and target tile of the query, or {@link #NO_KEY} if the path is not in the cache.
+         */
+        private long key = NO_KEY;
+
+        /**
+         * The waypoints; only the first {@link #length} entries are used.
+         */
+        private int[] tiles = new int[16];
+        private int length;
+
+        /**
+         * The value of {@link #cacheClock} when the path has last been used.
+         */
+        private int lastUsed;
+    }
+}
@@ -131,7 +131,8 @@ public void update() {
         boolean hasKey = false;
         List<Key> keys = gameMap.getKeys();
         if (keys != null) {
-            for (Key key : keys) {
+            for (int i = 0; i < keys.size(); i++) {
+                Key key = keys.get(i);
                 if (key != null && key.isCollected()) {
                     hasKey = true;
                     break;
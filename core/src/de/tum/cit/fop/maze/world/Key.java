@@ -1,7 +1,5 @@
 package de.tum.cit.fop.maze.world;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
@@ -32,6 +30,11 @@ public Key(float x, float y) {
     private static TextureRegion greyedOutTexture;
 
 
+    /**
+     * Whether this key holds a reference to its textures in the {@link TextureManager}.
+     */
+    private boolean holdsTexture;
+
     /**
      * A property signifying whether the key has been collected.
      */
@@ -74,42 +77,34 @@ public void collect() {
 
 
     /**
-     * Loads the textures for the key. Ensures they are loaded only once.
+     * Acquires the textures for the key, shared by all keys.
      */
     private void loadTextures() {
-        if (normalTexture == null) {
-            Texture keySheet = new Texture("assets/images/key.png");
-            normalTexture = new TextureRegion(keySheet, 16, 16);
-        }
-        if (greyedOutTexture == null) {
-            Texture keySheet = new Texture("assets/images/keygrey.png");
-            greyedOutTexture = new TextureRegion(keySheet, 16, 16);
-        }
+        normalTexture = TextureManager.acquire("key");
+        greyedOutTexture = TextureManager.acquire("keygrey");
+        holdsTexture = true;
     }
 
     /**
-     * Renders the key using the given {@code SpriteBatch}.
+     * Renders the key unless it has been collected.
      *
-     * @param batch The {@code SpriteBatch} used for rendering.
+     * @param queue The {@code RenderQueue} the sprite is submitted to.
      */
-    public void render(SpriteBatch batch) {
+    public void render(RenderQueue queue) {
         if (!collected && normalTexture != null) {
-            batch.draw(normalTexture, x * 32, y * 32, 32, 32);
+            queue.submit(RenderQueue.LAYER_ITEMS, normalTexture, x * 32, y * 32, 32, 32);
         }
     }
 
     /**
-     * Disposes of the textures.
+     * Releases the textures. The shared textures stay in use by the HUD and other keys.
      */
     @Override
     public void dispose() {
-        if (normalTexture != null) {
-            normalTexture.getTexture().dispose();
-            normalTexture = null;
-        }
-        if (greyedOutTexture != null) {
-            greyedOutTexture.getTexture().dispose();
-            greyedOutTexture = null;
+        if (holdsTexture) {
+            TextureManager.release("key");
+            TextureManager.release("keygrey");
+            holdsTexture = false;
         }
     }
 }
@@ -0,0 +1,104 @@
+package de.tum.cit.fop.maze.world;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A static LRU cache of loaded levels, so restarting or replaying a level skips reading and parsing its map file.
+ * Entries are keyed by path and remember the modification times of the map file and its compiled version,
+ * since either one may be loaded; a changed file is loaded again. The cache holds at most {@link #MAX_BYTES} bytes of tiles.
+ */
+public final class LevelCache {
+    private LevelCache() {
+    }
+
+    /**
+     * The maximum number of tile bytes kept in the cache.
+     */
+    public static final long MAX_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * A cached level with the modification times of its files when it was loaded.
+     */
+    private static final class Entry {
+        private final TileGrid grid;
+        private final long modified;
+        private final long compiledModified;
+
+        private Entry(TileGrid grid, long modified, long compiledModified) {
+            this.grid = grid;
+            this.modified = modified;
+            this.compiledModified = compiledModified;
+        }
+
+        private long bytes() {
+            return (long) grid.getWidth() * grid.getHeight();
+        }
+    }
+
+    private static final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private static long bytes;
+
+
+    /**
+     * Gets the tiles of a level, reading the map file only if it is not cached or has changed since.
+     *
+     * @param filePath The path of the map file.
+     * @return The tile grid. It is shared and must not be modified.
+     */
+    public static synchronized TileGrid load(String filePath) {
+        Path path = Paths.get(filePath);
+        long modified = lastModified(path);
+        long compiledModified = lastModified(CompiledMap.compiledPathOf(path));
+        Entry entry = entries.get(filePath);
+        if (entry != null && entry.modified == modified && entry.compiledModified == compiledModified) {
+            return entry.grid;
+        }
+        if (entry != null) {
+            remove(filePath);
+        }
+
+        TileGrid grid = GameHelper.loadLevelData(filePath);
+        entry = new Entry(grid, modified, compiledModified);
+        if (entry.bytes() <= MAX_BYTES) {
+            entries.put(filePath, entry);
+            bytes += entry.bytes();
+            evict();
+        }
+        return grid;
+    }
+
+    /**
+     * Drops all cached levels.
+     */
+    public static synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    private static void remove(String filePath) {
+        Entry entry = entries.remove(filePath);
+        if (entry != null) bytes -= entry.bytes();
+    }
+
+    private static void evict() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (bytes > MAX_BYTES && eldest.hasNext()) {
+            bytes -= eldest.next().bytes();
+            eldest.remove();
+        }
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.exists(path) ? Files.getLastModifiedTime(path).toMillis() : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
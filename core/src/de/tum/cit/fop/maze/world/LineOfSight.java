@@ -0,0 +1,63 @@
+package de.tum.cit.fop.maze.world;
+
+/**
+ * A static class for line-of-sight checks on the tile grid.
+ * Rays are traversed tile by tile (DDA), so the cost only depends on the distance between the tiles.
+ */
+public final class LineOfSight {
+    private LineOfSight() {
+    }
+
+    /**
+     * Checks whether the straight line between the centres of two tiles crosses no solid tile.
+     * The start and target tiles themselves are not checked. Where the line passes exactly through
+     * a corner, both tiles touching the corner have to be free.
+     *
+     * @param grid    The collision grid of the map.
+     * @param fromX   The x coordinate of the start tile.
+     * @param fromY   The y coordinate of the start tile.
+     * @param toX     The x coordinate of the target tile.
+     * @param toY     The y coordinate of the target tile.
+     * @return True if nothing blocks the view, false otherwise.
+     */
+    public static boolean isClear(CollisionGrid grid, int fromX, int fromY, int toX, int toY) {
+        int dx = toX - fromX;
+        int dy = toY - fromY;
+        int stepX = Integer.signum(dx);
+        int stepY = Integer.signum(dy);
+        int absDx = Math.abs(dx);
+        int absDy = Math.abs(dy);
+
+        int x = fromX;
+        int y = fromY;
+        // The ray leaves the current tile on the x side after (1 + 2i) / (2|dx|) of its length and on the y side
+        // after (1 + 2j) / (2|dy|). Comparing the cross-multiplied numerators keeps everything in integers.
+        long nextX = absDx == 0 ? Long.MAX_VALUE : absDy;
+        long nextY = absDy == 0 ? Long.MAX_VALUE : absDx;
+        int steps = absDx + absDy;
+        while (steps > 0) {
+            if (nextX < nextY) {
+                x += stepX;
+                nextX += 2L * absDy;
+                steps--;
+            } else if (nextY < nextX) {
+                y += stepY;
+                nextY += 2L * absDx;
+                steps--;
+            } else {
+                if (grid.isSolid(x + stepX, y) || grid.isSolid(x, y + stepY)) {
+                    return false;
+                }
+                x += stepX;
+                y += stepY;
+                nextX += 2L * absDy;
+                nextY += 2L * absDx;
+                steps -= 2;
+            }
+            if (steps > 0 && grid.isSolid(x, y)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+package de.tum.cit.fop.maze.world;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * A command line tool compiling text maps ({@code .properties}) into the binary {@link CompiledMap} format.
+ * The compiled map is written next to the text map and is picked up by {@link GameHelper#loadLevelData(String)}.
+ * Run it with the {@code compileMaps} Gradle task or pass map files or directories as arguments.
+ */
+public final class MapCompiler {
+    private MapCompiler() {
+    }
+
+    /**
+     * Compiles the given maps. Directories are searched for {@code .properties} files.
+     *
+     * @param args The map files or directories to compile.
+     * @throws IOException If a map cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: MapCompiler <map file or directory>...");
+            System.exit(1);
+        }
+        for (String arg : args) {
+            Path path = Paths.get(arg);
+            if (Files.isDirectory(path)) {
+                try (DirectoryStream<Path> maps = Files.newDirectoryStream(path, "*.properties")) {
+                    for (Path map : maps) {
+                        compile(map);
+                    }
+                }
+            } else {
+                compile(path);
+            }
+        }
+    }
+
+    /**
+     * Compiles a single text map into a file with the same name and the {@link CompiledMap#EXTENSION}.
+     *
+     * @param source The text map.
+     * @return The compiled map.
+     * @throws IOException If the map cannot be read or written.
+     */
+    public static Path compile(Path source) throws IOException {
+        TileGrid grid;
+        try (InputStream in = Files.newInputStream(source)) {
+            grid = MapFileParser.parse(in, source.toString());
+        }
+        Path target = CompiledMap.compiledPathOf(source);
+        try (OutputStream out = Files.newOutputStream(target)) {
+            CompiledMap.write(grid, out);
+        }
+        System.out.println("Compiled " + source + " -> " + target + " (" + Files.size(source) + " -> "
+                + Files.size(target) + " bytes)");
+        return target;
+    }
+}
@@ -1,7 +1,5 @@
 package de.tum.cit.fop.maze.world;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import java.util.List;
 
 /**
  * An abstract class representing an object of the game map with a certain position.
@@ -10,8 +8,6 @@ public abstract class MapElement {
 
     protected boolean traversable;
 
-    private final float collisionOffset = 0.87f;
-
     private final float BOX_PADDING = 0.125f;
 
     public MapElement(float x, float y) {
@@ -43,24 +39,13 @@ protected float calculateSpeed(float delta) {
         return 0f;
     }
 
-    public boolean moveUp(float delta, List<Wall> walls) {
-        float speed = calculateSpeed(delta);
-        float nextY = this.y + speed;
-
-        for (Wall wall : walls) {
-            boolean xOverlap = (this.x > wall.x - collisionOffset) && (this.x < wall.x + collisionOffset);
-
-            if (xOverlap && wall.y > this.y && nextY >= wall.y - 1 + BOX_PADDING) {
-                y = wall.y - 1 + BOX_PADDING;
-                return false;
-            }
-        }
-
-        if (this.y <= GameMap.getHeight() && GameMap.getHeight() <= nextY) {
+    /**
+     * Move UP.
+     */
+    public boolean moveUp(float delta, CollisionGrid grid) {
+        if (!moveBy(0, calculateSpeed(delta), grid)) {
             return false;
         }
-
-        this.y += speed;
         currentMovementDirection = Direction.UP;
         return true;
     }
@@ -68,76 +53,170 @@ public boolean moveUp(float delta, List<Wall> walls) {
     /**
      * Move DOWN.
      */
-    public boolean moveDown(float delta, List<Wall> walls) {
-        float speed = calculateSpeed(delta);
-        float nextY = this.y - speed;
-
-        for (Wall wall : walls) {
-            boolean xOverlap = (this.x > wall.x - collisionOffset) && (this.x < wall.x + collisionOffset);
-
-            if (xOverlap && wall.y < this.y && nextY <= wall.y + 1 - BOX_PADDING) {
-                y = wall.y + 1 - BOX_PADDING;
-                return false;
-            }
-        }
-
-        if (this.y >= 0 && 0 >= nextY) {
+    public boolean moveDown(float delta, CollisionGrid grid) {
+        if (!moveBy(0, -calculateSpeed(delta), grid)) {
             return false;
         }
-
-        y -= speed;
         currentMovementDirection = Direction.DOWN;
         return true;
     }
 
-    public boolean moveLeft(float delta, List<Wall> walls) {
-        float speed = calculateSpeed(delta);
-        float nextX = this.x - speed;
-
-        for (Wall wall : walls) {
-            boolean yOverlap = (this.y > wall.y - collisionOffset) && (this.y < wall.y + collisionOffset);
-
-            if (yOverlap && wall.x < this.x && nextX <= wall.x + 1 - BOX_PADDING) {
-                x = wall.x + 1 - BOX_PADDING;
-                return false;
-            }
-        }
-
-        if (this.x >= 0 && 0 >= nextX) {
+    public boolean moveLeft(float delta, CollisionGrid grid) {
+        if (!moveBy(-calculateSpeed(delta), 0, grid)) {
             return false;
         }
-
-        x -= speed;
         currentMovementDirection = Direction.LEFT;
         return true;
     }
 
-    public boolean moveRight(float delta, List<Wall> walls) {
-        float speed = calculateSpeed(delta);
-        float nextX = this.x + speed;
+    public boolean moveRight(float delta, CollisionGrid grid) {
+        if (!moveBy(calculateSpeed(delta), 0, grid)) {
+            return false;
+        }
+        currentMovementDirection = Direction.RIGHT;
+        return true;
+    }
 
-        for (Wall wall : walls) {
-            boolean yOverlap = (this.y > wall.y - collisionOffset) && (this.y < wall.y + collisionOffset);
+    /**
+     * Moves the element by an arbitrary displacement, sweeping its box through the tile grid.
+     * The element stops at the first solid tile or map border on its way and slides along it
+     * with the rest of the displacement, so even long steps cannot tunnel through walls.
+     *
+     * @param dx   The displacement on the x axis.
+     * @param dy   The displacement on the y axis.
+     * @param grid The collision grid of the map.
+     * @return True if the whole displacement could be applied, false if the element was blocked.
+     */
+    public boolean moveBy(float dx, float dy, CollisionGrid grid) {
+        boolean blocked = false;
+        for (int pass = 0; pass < 2 && (dx != 0 || dy != 0); pass++) {
+            float stopX = dx == 0 ? Float.NaN : sweepX(dx, dy, grid);
+            float stopY = dy == 0 ? Float.NaN : sweepY(dx, dy, grid);
+            float hitX = Float.isNaN(stopX) ? Float.MAX_VALUE : Math.max((stopX - x) / dx, 0);
+            float hitY = Float.isNaN(stopY) ? Float.MAX_VALUE : Math.max((stopY - y) / dy, 0);
+            if (hitX == Float.MAX_VALUE && hitY == Float.MAX_VALUE) {
+                x += dx;
+                y += dy;
+                return !blocked;
+            }
+            blocked = true;
+            if (hitX <= hitY) {
+                x = stopX;
+                y += dy * Math.min(hitX, 1);
+                dy *= 1 - Math.min(hitX, 1);
+                dx = 0;
+                if (hitX == hitY) {
+                    y = stopY;
+                    dy = 0;
+                }
+            } else {
+                y = stopY;
+                x += dx * Math.min(hitY, 1);
+                dx *= 1 - Math.min(hitY, 1);
+                dy = 0;
+            }
+        }
+        return !blocked;
+    }
 
-            if (yOverlap && wall.x > this.x && nextX >= wall.x - 1 + BOX_PADDING) {
-                x = wall.x - 1 + BOX_PADDING;
-                return false;
+    /**
+     * Sweeps the box along the x axis and finds where it has to stop.
+     *
+     * @return The x position at which the box touches a solid tile or the map border, or NaN if the way is free.
+     */
+    private float sweepX(float dx, float dy, CollisionGrid grid) {
+        float nextX = x + dx;
+        if (dx > 0) {
+            int lastCol = (int) Math.floor(nextX + 1 - BOX_PADDING);
+            for (int col = (int) Math.floor(x) + 1; col <= lastCol; col++) {
+                float stop = col - 1 + BOX_PADDING;
+                if (rowsBlocked(col, y + dy * Math.max((stop - x) / dx, 0), grid)) {
+                    return stop;
+                }
+            }
+            return x <= grid.getWidth() && grid.getWidth() <= nextX ? grid.getWidth() : Float.NaN;
+        }
+        int lastCol = (int) Math.ceil(nextX - 1 + BOX_PADDING);
+        for (int col = (int) Math.ceil(x) - 1; col >= lastCol; col--) {
+            float stop = col + 1 - BOX_PADDING;
+            if (rowsBlocked(col, y + dy * Math.max((stop - x) / dx, 0), grid)) {
+                return stop;
             }
         }
+        return x >= 0 && 0 >= nextX ? 0 : Float.NaN;
+    }
 
-        if (this.x <= GameMap.getWidth() && GameMap.getWidth() <= nextX) {
-            return false;
+    /**
+     * Sweeps the box along the y axis and finds where it has to stop.
+     *
+     * @return The y position at which the box touches a solid tile or the map border, or NaN if the way is free.
+     */
+    private float sweepY(float dx, float dy, CollisionGrid grid) {
+        float nextY = y + dy;
+        if (dy > 0) {
+            int lastRow = (int) Math.floor(nextY + 1 - BOX_PADDING);
+            for (int row = (int) Math.floor(y) + 1; row <= lastRow; row++) {
+                float stop = row - 1 + BOX_PADDING;
+                if (columnsBlocked(row, x + dx * Math.max((stop - y) / dy, 0), grid)) {
+                    return stop;
+                }
+            }
+            return y <= grid.getHeight() && grid.getHeight() <= nextY ? grid.getHeight() : Float.NaN;
+        }
+        int lastRow = (int) Math.ceil(nextY - 1 + BOX_PADDING);
+        for (int row = (int) Math.ceil(y) - 1; row >= lastRow; row--) {
+            float stop = row + 1 - BOX_PADDING;
+            if (columnsBlocked(row, x + dx * Math.max((stop - y) / dy, 0), grid)) {
+                return stop;
+            }
         }
+        return y >= 0 && 0 >= nextY ? 0 : Float.NaN;
+    }
 
-        x += speed;
-        currentMovementDirection = Direction.RIGHT;
+    /**
+     * Checks whether a column holds a solid tile overlapping a box at the given y position.
+     */
+    private boolean rowsBlocked(int col, float atY, CollisionGrid grid) {
+        int fromRow = (int) Math.floor(atY - (1 - BOX_PADDING)) + 1;
+        int toRow = (int) Math.ceil(atY + (1 - BOX_PADDING)) - 1;
+        return grid.anySolidInColumn(col, fromRow, toRow);
+    }
+
+    /**
+     * Checks whether a row holds a solid tile overlapping a box at the given x position.
+     */
+    private boolean columnsBlocked(int row, float atX, CollisionGrid grid) {
+        int fromCol = (int) Math.floor(atX - (1 - BOX_PADDING)) + 1;
+        int toCol = (int) Math.ceil(atX + (1 - BOX_PADDING)) - 1;
+        return grid.anySolidInRow(row, fromCol, toCol);
+    }
+
+    /**
+     * Shifts the element by a small offset, unless it would end up overlapping a solid tile.
+     * Used to push elements apart without changing their movement direction.
+     *
+     * @param dx   The offset on the x axis.
+     * @param dy   The offset on the y axis.
+     * @param grid The collision grid of the map.
+     * @return True if the element has been shifted.
+     */
+    public boolean shift(float dx, float dy, CollisionGrid grid) {
+        float nextX = this.x + dx;
+        float nextY = this.y + dy;
+        int fromRow = (int) Math.floor(nextY - (1 - BOX_PADDING)) + 1;
+        int toRow = (int) Math.ceil(nextY + (1 - BOX_PADDING)) - 1;
+        for (int row = fromRow; row <= toRow; row++) {
+            if (columnsBlocked(row, nextX, grid)) return false;
+        }
+        this.x = nextX;
+        this.y = nextY;
         return true;
     }
 
     public void dispose() {
     }
 
-    public abstract void render(SpriteBatch batch);
+    public abstract void render(RenderQueue queue);
 
     public void setPosition(float x, float y) {
         this.x = x;
@@ -0,0 +1,204 @@
+package de.tum.cit.fop.maze.world;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A single-pass parser for map files in the {@code x,y=value} format.
+ * The file is read in blocks and every line is parsed straight from the bytes into a growing tile array,
+ * so no strings are created except for error messages. Lines that cannot be parsed are reported
+ * with their line number and skipped; lines starting with {@code #} or {@code !} are comments.
+ */
+public final class MapFileParser {
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+    private static final int INITIAL_SIZE = 64;
+
+    /**
+     * The largest supported width and height of a map, guarding against typos allocating huge grids.
+     */
+    private static final int MAX_SIZE = 1 << 14;
+
+    /**
+     * Marks a number that could not be parsed.
+     */
+    private static final long INVALID = Long.MIN_VALUE;
+
+    private MapFileParser(String name) {
+        this.name = name;
+        this.capacityX = INITIAL_SIZE;
+        this.capacityY = INITIAL_SIZE;
+        this.tiles = new byte[capacityX * capacityY];
+        Arrays.fill(tiles, (byte) TileGrid.EMPTY);
+    }
+
+    /**
+     * The name of the parsed file, used in error messages.
+     */
+    private final String name;
+
+    /**
+     * The tiles read so far, row by row with {@link #capacityX} tiles per row.
+     */
+    private byte[] tiles;
+    private int capacityX;
+    private int capacityY;
+
+    /**
+     * The size of the map read so far.
+     */
+    private int width;
+    private int height;
+
+    /**
+     * The bytes of the current line.
+     */
+    private byte[] line = new byte[128];
+    private int lineLength;
+
+
+    /**
+     * Parses a map file.
+     *
+     * @param in   The stream to read the file from. It is not closed.
+     * @param name The name of the file, used in error messages.
+     * @return The tile grid, just large enough to hold every tile in the file.
+     * @throws IOException If the stream cannot be read.
+     */
+    public static TileGrid parse(InputStream in, String name) throws IOException {
+        MapFileParser parser = new MapFileParser(name);
+        byte[] block = new byte[BLOCK_SIZE];
+        int length = 0;
+        int lineNumber = 1;
+        int read;
+        while ((read = in.read(block)) != -1) {
+            for (int i = 0; i < read; i++) {
+                byte b = block[i];
+                if (b == '\n') {
+                    parser.parseLine(length, lineNumber++);
+                    length = 0;
+                } else {
+                    if (length == parser.line.length) {
+                        parser.line = Arrays.copyOf(parser.line, length * 2);
+                    }
+                    parser.line[length++] = b;
+                }
+            }
+        }
+        parser.parseLine(length, lineNumber);
+        return parser.toTileGrid();
+    }
+
+    private void parseLine(int length, int lineNumber) {
+        lineLength = length;
+        int start = 0;
+        int end = length;
+        while (start < end && line[start] <= ' ') start++;
+        while (end > start && line[end - 1] <= ' ') end--;
+        if (start == end || line[start] == '#' || line[start] == '!') {
+            return;
+        }
+
+        int equals = indexOf('=', start, end);
+        if (equals < 0) {
+            error(lineNumber, "missing '='");
+            return;
+        }
+        if (indexOf('=', equals + 1, end) >= 0) {
+            error(lineNumber, "more than one '='");
+            return;
+        }
+        int comma = indexOf(',', start, equals);
+        if (comma < 0 || indexOf(',', comma + 1, equals) >= 0) {
+            error(lineNumber, "expected coordinates as 'x,y'");
+            return;
+        }
+
+        long x = parseInt(start, comma);
+        long y = parseInt(comma + 1, equals);
+        long value = parseInt(equals + 1, end);
+        if (x == INVALID || y == INVALID || value == INVALID) {
+            error(lineNumber, "invalid number");
+            return;
+        }
+        if (x < 0 || y < 0) {
+            return;
+        }
+        if (x >= MAX_SIZE || y >= MAX_SIZE) {
+            error(lineNumber, "coordinates larger than " + MAX_SIZE);
+            return;
+        }
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+            value = TileGrid.EMPTY;
+        }
+        set((int) x, (int) y, (byte) value);
+    }
+
+    private int indexOf(char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (line[i] == c) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Parses a decimal integer with an optional sign, surrounded by optional whitespace.
+     *
+     * @return The number, or {@link #INVALID} if it is malformed or does not fit into an int.
+     */
+    private long parseInt(int from, int to) {
+        while (from < to && line[from] <= ' ') from++;
+        while (to > from && line[to - 1] <= ' ') to--;
+        boolean negative = false;
+        if (from < to && (line[from] == '-' || line[from] == '+')) {
+            negative = line[from] == '-';
+            from++;
+        }
+        if (from == to) return INVALID;
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9) return INVALID;
+            result = result * 10 + digit;
+            if (result > (long) Integer.MAX_VALUE + 1) return INVALID;
+        }
+        result = negative ? -result : result;
+        return result > Integer.MAX_VALUE ? INVALID : result;
+    }
+
+    private void set(int x, int y, byte value) {
+        if (x >= capacityX || y >= capacityY) {
+            int newCapacityX = x < capacityX ? capacityX : Math.max(x + 1, capacityX * 2);
+            int newCapacityY = y < capacityY ? capacityY : Math.max(y + 1, capacityY * 2);
+            grow(newCapacityX, newCapacityY);
+        }
+        tiles[y * capacityX + x] = value;
+        width = Math.max(width, x + 1);
+        height = Math.max(height, y + 1);
+    }
+
+    private void grow(int newCapacityX, int newCapacityY) {
+        byte[] grown = new byte[newCapacityX * newCapacityY];
+        Arrays.fill(grown, (byte) TileGrid.EMPTY);
+        for (int row = 0; row < height; row++) {
+            System.arraycopy(tiles, row * capacityX, grown, row * newCapacityX, width);
+        }
+        tiles = grown;
+        capacityX = newCapacityX;
+        capacityY = newCapacityY;
+    }
+
+    private TileGrid toTileGrid() {
+        if (capacityX != width || capacityY != height) {
+            grow(width, height);
+        }
+        return new TileGrid(width, height, tiles);
+    }
+
+    private void error(int lineNumber, String reason) {
+        System.err.println(name + ":" + lineNumber + ": " + reason + ": "
+                + new String(line, 0, lineLength, StandardCharsets.UTF_8).trim());
+    }
+}
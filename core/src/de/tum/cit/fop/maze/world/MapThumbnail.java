@@ -0,0 +1,152 @@
+package de.tum.cit.fop.maze.world;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Minimap thumbnails of levels for the level selection.
+ * A thumbnail is drawn from the tile grid into a {@link Pixmap}, which needs no OpenGL context,
+ * so it can be rendered on a background thread. It is cached as a PNG file next to the map
+ * and drawn again once the map or its compiled version is newer than the cached file.
+ */
+public final class MapThumbnail {
+    private MapThumbnail() {
+    }
+
+    /**
+     * The file extension of cached thumbnails.
+     */
+    public static final String EXTENSION = ".thumb.png";
+
+    /**
+     * The largest width and height of a thumbnail in pixels. Larger maps are scaled down.
+     */
+    public static final int MAX_SIZE = 128;
+
+    private static final int WALL = 0x3a3a3aff;
+    private static final int FLOOR = 0xc8b88aff;
+    private static final int ENTRANCE = 0x2fa84fff;
+    private static final int EXIT = 0xd03a2fff;
+    private static final int KEY = 0xf2c94cff;
+    private static final int TRAP = 0xe07b29ff;
+
+
+    /**
+     * Gets the thumbnail of a level, from the cache next to the map if it is up to date.
+     * May be called from any thread; the caller owns the returned pixmap and has to dispose of it.
+     *
+     * @param mapFile The path of the map file.
+     * @return The thumbnail.
+     */
+    public static Pixmap load(String mapFile) {
+        Path source = Paths.get(mapFile);
+        Path cached = thumbnailPathOf(source);
+        if (isUpToDate(cached, source)) {
+            try {
+                return new Pixmap(new FileHandle(cached.toFile()));
+            } catch (GdxRuntimeException e) {
+                System.err.println("Redrawing thumbnail " + cached + ": " + e.getMessage());
+            }
+        }
+
+        Pixmap thumbnail = render(LevelCache.load(mapFile));
+        try {
+            PixmapIO.writePNG(new FileHandle(cached.toFile()), thumbnail);
+        } catch (GdxRuntimeException e) {
+            System.err.println("Cannot cache thumbnail " + cached + ": " + e.getMessage());
+        }
+        return thumbnail;
+    }
+
+    /**
+     * Draws the thumbnail of a tile grid. Every pixel covers a square block of tiles and shows
+     * the most important tile in it (entrance, exit, key, trap), otherwise whether walls or floors are in the majority.
+     *
+     * @param grid The tiles of the level.
+     * @return The thumbnail, at most {@link #MAX_SIZE} pixels wide and high.
+     */
+    public static Pixmap render(TileGrid grid) {
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+        int scale = Math.max(1, (Math.max(width, height) + MAX_SIZE - 1) / MAX_SIZE);
+        int pixelsX = Math.max(1, (width + scale - 1) / scale);
+        int pixelsY = Math.max(1, (height + scale - 1) / scale);
+
+        Pixmap pixmap = new Pixmap(pixelsX, pixelsY, Pixmap.Format.RGBA8888);
+        pixmap.setColor(FLOOR);
+        pixmap.fill();
+        int[] walls = new int[pixelsX];
+        int[] tiles = new int[pixelsX];
+        int[] marker = new int[pixelsX];
+        for (int py = 0; py < pixelsY; py++) {
+            for (int px = 0; px < pixelsX; px++) {
+                walls[px] = 0;
+                tiles[px] = 0;
+                marker[px] = 0;
+            }
+            int endY = Math.min((py + 1) * scale, height);
+            for (int y = py * scale; y < endY; y++) {
+                for (int x = 0; x < width; x++) {
+                    int px = x / scale;
+                    int tile = grid.get(x, y);
+                    tiles[px]++;
+                    if (tile == 0) walls[px]++;
+                    marker[px] = Math.max(marker[px], priority(tile));
+                }
+            }
+            for (int px = 0; px < pixelsX; px++) {
+                int color = switch (marker[px]) {
+                    case 4 -> ENTRANCE;
+                    case 3 -> EXIT;
+                    case 2 -> KEY;
+                    case 1 -> TRAP;
+                    default -> walls[px] * 2 > tiles[px] ? WALL : FLOOR;
+                };
+                // Maps grow upwards, pixmaps downwards.
+                pixmap.drawPixel(px, pixelsY - 1 - py, color);
+            }
+        }
+        return pixmap;
+    }
+
+    /**
+     * Gets the path of the cached thumbnail of a map: the same name with the {@link #EXTENSION}.
+     *
+     * @param source The map file.
+     * @return The path of the thumbnail.
+     */
+    public static Path thumbnailPathOf(Path source) {
+        String name = source.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return source.resolveSibling((dot > 0 ? name.substring(0, dot) : name) + EXTENSION);
+    }
+
+    private static int priority(int tile) {
+        return switch (tile) {
+            case 1 -> 4;
+            case 2 -> 3;
+            case 5 -> 2;
+            case 3, 6 -> 1;
+            default -> 0;
+        };
+    }
+
+    private static boolean isUpToDate(Path cached, Path source) {
+        try {
+            if (!Files.isRegularFile(cached)) return false;
+            long thumbnail = Files.getLastModifiedTime(cached).toMillis();
+            Path compiled = CompiledMap.compiledPathOf(source);
+            if (Files.exists(source) && Files.getLastModifiedTime(source).toMillis() > thumbnail) return false;
+            return !Files.exists(compiled) || Files.getLastModifiedTime(compiled).toMillis() <= thumbnail;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -1,16 +1,14 @@
 package de.tum.cit.fop.maze.world;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 
 public class MorphTrap extends Obstacle {
 
-    private static Texture texture;
+    private static TextureRegion texture;
     private static Animation<TextureRegion> morphAnimation;
+    private boolean holdsTexture;
     private float stateTime;
     private boolean affectingPlayer = false;
 
@@ -31,8 +29,10 @@ public void setActive(boolean active) {
     }
 
     private void loadTexturesAndAnimations() {
-        if (texture == null) {
-            texture = new Texture(Gdx.files.internal("objects/morph_trap.png"));
+        TextureRegion sheet = TextureManager.acquire("morph_trap");
+        holdsTexture = true;
+        if (sheet != texture) {
+            texture = sheet;
 
             Array<TextureRegion> frames = new Array<>();
             final int frameWidth = 32;
@@ -61,23 +61,25 @@ public void update(float delta) {
     }
 
     @Override
-    public void render(SpriteBatch batch) {
+    public void render(RenderQueue queue) {
         if (!isActive()) return;
         if (morphAnimation == null) return;
         TextureRegion currentFrame = morphAnimation.getKeyFrame(stateTime, true);
-        batch.draw(currentFrame, getX() * 32, getY() * 32, 32, 32);
+        queue.submit(RenderQueue.LAYER_TILES, currentFrame, getX() * 32, getY() * 32, 32, 32);
     }
 
     public static void disposeResources() {
-        if (texture != null) {
-            texture.dispose();
-            texture = null;
-            morphAnimation = null;
-        }
+        texture = null;
+        morphAnimation = null;
     }
 
     @Override
-    public void dispose() {}
+    public void dispose() {
+        if (holdsTexture) {
+            TextureManager.release("morph_trap");
+            holdsTexture = false;
+        }
+    }
 
     public boolean isAffectingPlayer() {
         return affectingPlayer;
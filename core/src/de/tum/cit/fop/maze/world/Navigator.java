@@ -0,0 +1,32 @@
+package de.tum.cit.fop.maze.world;
+
+/**
+ * A shared source of movement steps towards a target tile, e.g. the tile of the player.
+ * Any number of enemies can ask it for their next tile.
+ */
+public interface Navigator {
+
+    /**
+     * Moves the target. Implementations only redo work if the target tile has changed.
+     *
+     * @param x The x coordinate of the target tile.
+     * @param y The y coordinate of the target tile.
+     */
+    void setTarget(int x, int y);
+
+    /**
+     * Finds the neighbouring tile that leads closer to the target.
+     *
+     * @param x The x coordinate of the current tile.
+     * @param y The y coordinate of the current tile.
+     * @return The next tile, encoded as {@code y * getWidth() + x}, or -1 if the tile is the target or no path exists.
+     */
+    int nextStep(int x, int y);
+
+    /**
+     * Gets the width of the map, needed to decode the tiles returned by {@link #nextStep(int, int)}.
+     *
+     * @return The width of the map in tiles.
+     */
+    int getWidth();
+}
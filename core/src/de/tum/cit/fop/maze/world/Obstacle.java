@@ -1,6 +1,5 @@
 package de.tum.cit.fop.maze.world;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 /**
  * An abstract class representing an obstacle with a certain position on the map and active status.
@@ -47,7 +46,7 @@ public boolean isActive() {
         return active;
     }
 
-    public abstract void render(SpriteBatch batch);
+    public abstract void render(RenderQueue queue);
 
     public void update(float delta) {
     }
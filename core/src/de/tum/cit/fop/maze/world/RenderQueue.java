@@ -0,0 +1,207 @@
+package de.tum.cit.fop.maze.world;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+
+/**
+ * Collects the sprites of a frame and draws them sorted by layer, then by texture.
+ * Entities submit their sprite with a layer and a tint instead of drawing to the {@code SpriteBatch} directly,
+ * so the drawing order does not depend on the order the map visits them in, and the batch only switches
+ * textures once per texture and layer. Sprites with the same layer and texture keep the order they were submitted in.
+ * Submitting does not allocate once the queue has grown to the size of a frame.
+ */
+public class RenderQueue {
+
+    /**
+     * Things lying on a tile: the entrance, exits and traps.
+     */
+    public static final int LAYER_TILES = 0;
+
+    /**
+     * Collectables lying on the floor: keys, hearts and boosts.
+     */
+    public static final int LAYER_ITEMS = 1;
+
+    /**
+     * Enemies, which walk over tiles and collectables.
+     */
+    public static final int LAYER_ENEMIES = 2;
+
+    /**
+     * Markers like the exit arrow.
+     */
+    public static final int LAYER_MARKERS = 3;
+
+    /**
+     * The player's character, drawn above everything else.
+     */
+    public static final int LAYER_PLAYER = 4;
+
+    /**
+     * The tint of a sprite drawn in its own colors.
+     */
+    public static final float NO_TINT = Color.WHITE_FLOAT_BITS;
+
+    /**
+     * The bits of a sort key holding the submission index and the texture index.
+     */
+    private static final int INDEX_BITS = 24;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+    /**
+     * The number of floats stored per sprite: x, y, origin x, origin y, width, height and rotation.
+     */
+    private static final int STRIDE = 7;
+
+    /**
+     * The regions of the submitted sprites, by submission index.
+     */
+    private TextureRegion[] regions = new TextureRegion[64];
+
+    /**
+     * The positions, origins, sizes and rotations of the submitted sprites, {@link #STRIDE} floats per sprite.
+     */
+    private float[] bounds = new float[64 * STRIDE];
+
+    /**
+     * The packed tints of the submitted sprites.
+     */
+    private float[] tints = new float[64];
+
+    /**
+     * The sort keys of the submitted sprites: layer, texture index, submission index from the highest bits down.
+     */
+    private long[] keys = new long[64];
+
+    /**
+     * The number of sprites submitted since the last flush.
+     */
+    private int count;
+
+    /**
+     * The textures of the submitted sprites in the order they were first seen, giving each its index in the sort key.
+     */
+    private final Array<Texture> textures = new Array<>(false, 8);
+
+
+    /**
+     * Submits a sprite drawn in its own colors.
+     *
+     * @param layer  The layer of the sprite, one of the {@code LAYER_} constants.
+     * @param region The region to draw.
+     * @param x      The x position of the lower left corner in pixels.
+     * @param y      The y position of the lower left corner in pixels.
+     * @param width  The width in pixels.
+     * @param height The height in pixels.
+     */
+    public void submit(int layer, TextureRegion region, float x, float y, float width, float height) {
+        submit(layer, region, x, y, 0, 0, width, height, 0, NO_TINT);
+    }
+
+    /**
+     * Submits a tinted sprite.
+     *
+     * @param layer  The layer of the sprite, one of the {@code LAYER_} constants.
+     * @param region The region to draw.
+     * @param x      The x position of the lower left corner in pixels.
+     * @param y      The y position of the lower left corner in pixels.
+     * @param width  The width in pixels.
+     * @param height The height in pixels.
+     * @param tint   The packed color the sprite is multiplied with, see {@link Color#toFloatBits(float, float, float, float)}.
+     */
+    public void submit(int layer, TextureRegion region, float x, float y, float width, float height, float tint) {
+        submit(layer, region, x, y, 0, 0, width, height, 0, tint);
+    }
+
+    /**
+     * Submits a tinted sprite rotated around an origin.
+     *
+     * @param layer    The layer of the sprite, one of the {@code LAYER_} constants.
+     * @param region   The region to draw.
+     * @param x        The x position of the lower left corner in pixels.
+     * @param y        The y position of the lower left corner in pixels.
+     * @param originX  The x coordinate of the rotation origin, relative to the lower left corner.
+     * @param originY  The y coordinate of the rotation origin, relative to the lower left corner.
+     * @param width    The width in pixels.
+     * @param height   The height in pixels.
+     * @param rotation The counterclockwise rotation in degrees.
+     * @param tint     The packed color the sprite is multiplied with.
+     */
+    public void submit(int layer, TextureRegion region, float x, float y, float originX, float originY,
+                       float width, float height, float rotation, float tint) {
+        if (region == null) return;
+        if (count == regions.length) {
+            grow();
+        }
+        int index = count++;
+        regions[index] = region;
+        int offset = index * STRIDE;
+        bounds[offset] = x;
+        bounds[offset + 1] = y;
+        bounds[offset + 2] = originX;
+        bounds[offset + 3] = originY;
+        bounds[offset + 4] = width;
+        bounds[offset + 5] = height;
+        bounds[offset + 6] = rotation;
+        tints[index] = tint;
+        keys[index] = ((long) layer << (2 * INDEX_BITS)) | ((long) textureIndex(region.getTexture()) << INDEX_BITS) | index;
+    }
+
+    /**
+     * Draws all submitted sprites sorted by layer and texture and empties the queue.
+     * Must be called between {@code begin()} and {@code end()} of the batch. The color of the batch is restored afterwards.
+     *
+     * @param batch The {@code SpriteBatch} used for rendering.
+     */
+    public void flush(SpriteBatch batch) {
+        Arrays.sort(keys, 0, count);
+        float batchColor = batch.getPackedColor();
+        float tint = batchColor;
+        for (int i = 0; i < count; i++) {
+            int index = (int) (keys[i] & INDEX_MASK);
+            TextureRegion region = regions[index];
+            if (tints[index] != tint) {
+                tint = tints[index];
+                batch.setPackedColor(tint);
+            }
+            int offset = index * STRIDE;
+            float rotation = bounds[offset + 6];
+            if (rotation == 0) {
+                batch.draw(region, bounds[offset], bounds[offset + 1], bounds[offset + 4], bounds[offset + 5]);
+            } else {
+                batch.draw(region, bounds[offset], bounds[offset + 1], bounds[offset + 2], bounds[offset + 3],
+                        bounds[offset + 4], bounds[offset + 5], 1, 1, rotation);
+            }
+            regions[index] = null;
+        }
+        if (tint != batchColor) {
+            batch.setPackedColor(batchColor);
+        }
+        count = 0;
+        textures.clear();
+    }
+
+    private int textureIndex(Texture texture) {
+        for (int i = 0; i < textures.size; i++) {
+            if (textures.get(i) == texture) return i;
+        }
+        textures.add(texture);
+        return textures.size - 1;
+    }
+
+    private void grow() {
+        int capacity = regions.length * 2;
+        if (capacity > INDEX_MASK + 1) {
+            throw new IllegalStateException("Too many sprites submitted in one frame");
+        }
+        regions = Arrays.copyOf(regions, capacity);
+        bounds = Arrays.copyOf(bounds, capacity * STRIDE);
+        tints = Arrays.copyOf(tints, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+    }
+}
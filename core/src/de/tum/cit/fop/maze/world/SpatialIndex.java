@@ -0,0 +1,165 @@
+package de.tum.cit.fop.maze.world;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A spatial index bucketing map elements by the tile they stand on.
+ * Lookups only touch the tile of the queried position and its neighbours,
+ * so their cost does not depend on how many elements the map holds.
+ *
+ * @param <T> The type of the indexed elements.
+ */
+public class SpatialIndex<T extends MapElement> {
+
+    /**
+     * Constructor for class {@code SpatialIndex}. Buckets all given elements.
+     *
+     * @param elements The elements to be indexed. The list must not change size afterwards.
+     * @param width    The width of the map in tiles.
+     * @param height   The height of the map in tiles.
+     */
+    public SpatialIndex(List<T> elements, int width, int height) {
+        this.elements = elements;
+        this.width = Math.max(width, 1);
+        this.height = Math.max(height, 1);
+        this.cellHead = new int[this.width * this.height];
+        this.next = new int[elements.size()];
+        this.cellOf = new int[elements.size()];
+        rebuild();
+    }
+
+    /**
+     * The indexed elements.
+     */
+    private final List<T> elements;
+
+    /**
+     * The width of the indexed area in tiles.
+     */
+    private final int width;
+
+    /**
+     * The height of the indexed area in tiles.
+     */
+    private final int height;
+
+    /**
+     * The index of the first element in every tile, or -1 if the tile is empty.
+     */
+    private final int[] cellHead;
+
+    /**
+     * The index of the next element in the same tile, or -1 at the end of the bucket.
+     */
+    private final int[] next;
+
+    /**
+     * The tile every element is currently bucketed in.
+     */
+    private final int[] cellOf;
+
+
+    /**
+     * Buckets all elements again. Needed after many positions changed at once, e.g. when loading a save game.
+     */
+    public void rebuild() {
+        Arrays.fill(cellHead, -1);
+        for (int i = 0; i < cellOf.length; i++) {
+            insert(i, cellAt(elements.get(i).getX(), elements.get(i).getY()));
+        }
+    }
+
+    /**
+     * Moves an element to another bucket if it has left its tile.
+     *
+     * @param index The index of the element in the indexed list.
+     */
+    public void refresh(int index) {
+        MapElement element = elements.get(index);
+        int cell = cellAt(element.getX(), element.getY());
+        if (cell == cellOf[index]) return;
+        remove(index);
+        insert(index, cell);
+    }
+
+    /**
+     * Collects all elements standing on the tile of the given position or one of its eight neighbours.
+     *
+     * @param x   The x position to look around.
+     * @param y   The y position to look around.
+     * @param out The list the found elements are written to. It is cleared first.
+     * @return The number of found elements.
+     */
+    public int queryNear(float x, float y, List<T> out) {
+        out.clear();
+        int tileX = clampX(Math.round(x));
+        int tileY = clampY(Math.round(y));
+        for (int cy = Math.max(tileY - 1, 0); cy <= Math.min(tileY + 1, height - 1); cy++) {
+            for (int cx = Math.max(tileX - 1, 0); cx <= Math.min(tileX + 1, width - 1); cx++) {
+                for (int i = cellHead[cy * width + cx]; i != -1; i = next[i]) {
+                    out.add(elements.get(i));
+                }
+            }
+        }
+        return out.size();
+    }
+
+    /**
+     * Collects all elements standing on a tile within a rectangle of tiles, e.g. the tiles visible to the camera.
+     * The cost depends on the size of the rectangle, not on the size of the map.
+     *
+     * @param fromX The x coordinate of the leftmost tile.
+     * @param fromY The y coordinate of the lowest tile.
+     * @param toX   The x coordinate of the rightmost tile (inclusive).
+     * @param toY   The y coordinate of the highest tile (inclusive).
+     * @param out   The list the found elements are written to. It is cleared first.
+     * @return The number of found elements.
+     */
+    public int queryArea(int fromX, int fromY, int toX, int toY, List<T> out) {
+        out.clear();
+        for (int cy = Math.max(fromY, 0); cy <= Math.min(toY, height - 1); cy++) {
+            for (int cx = Math.max(fromX, 0); cx <= Math.min(toX, width - 1); cx++) {
+                for (int i = cellHead[cy * width + cx]; i != -1; i = next[i]) {
+                    out.add(elements.get(i));
+                }
+            }
+        }
+        return out.size();
+    }
+
+    /**
+     * Calculates the bucket of a position. Positions outside the map are clamped to the border tiles.
+     */
+    private int cellAt(float x, float y) {
+        return clampY(Math.round(y)) * width + clampX(Math.round(x));
+    }
+
+    private int clampX(int tileX) {
+        return Math.min(Math.max(tileX, 0), width - 1);
+    }
+
+    private int clampY(int tileY) {
+        return Math.min(Math.max(tileY, 0), height - 1);
+    }
+
+    private void insert(int index, int cell) {
+        cellOf[index] = cell;
+        next[index] = cellHead[cell];
+        cellHead[cell] = index;
+    }
+
+    private void remove(int index) {
+        int cell = cellOf[index];
+        if (cellHead[cell] == index) {
+            cellHead[cell] = next[index];
+            return;
+        }
+        for (int i = cellHead[cell]; i != -1; i = next[i]) {
+            if (next[i] == index) {
+                next[i] = next[index];
+                return;
+            }
+        }
+    }
+}
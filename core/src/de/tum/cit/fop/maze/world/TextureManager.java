@@ -1,47 +1,201 @@
 package de.tum.cit.fop.maze.world;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
 
 /**
  * A class to help manage texture sources.
+ * All sprites of the game world are packed into one {@link TextureAtlas}, so the sprite batch and the chunk caches
+ * draw the whole world from a single texture instead of flushing whenever the source image changes.
+ * Images that are not part of the atlas, like screen backgrounds, are loaded as textures of their own.
+ * <p>
+ * Regions and textures are reference counted: every {@link #acquire(String)} has to be paired with a
+ * {@link #release(String)} by the same holder. The atlas is freed once no region of it is held anymore and a
+ * texture once its last holder released it, so every image is uploaded once while in use and freed exactly once.
  */
 
 public class TextureManager {
 
     /**
-     * Basic tiles source.
+     * The names of the regions in the atlas and the images they are packed from.
      */
-    public static final Texture basictilesTexture = new Texture("assets/basictiles.png");
+    private static final String[][] SOURCES = {
+            {"wall", "assets/wall.png"},
+            {"floor", "assets/images/floor.png"},
+            {"basictiles", "assets/basictiles.png"},
+            {"character", "assets/character.png"},
+            {"mobs", "assets/mobs.png"},
+            {"objects", "assets/objects.png"},
+            {"things", "assets/things.png"},
+            {"boost", "assets/images/boost.png"},
+            {"key", "assets/images/key.png"},
+            {"keygrey", "assets/images/keygrey.png"},
+            {"exit-arrow", "assets/images/exit-arrow.png"},
+            {"morph_trap", "assets/objects/morph_trap.png"}
+    };
 
     /**
-     * Character textures source.
+     * The path of the background shared by the menu screens.
      */
-    public static final Texture characterTexture = new Texture("assets/character.png");
+    public static final String MENU_BACKGROUND = "assets/images/2.png";
 
     /**
-     * Mobs source.
+     * The width and height of an atlas page. All sources fit on one page.
      */
-    public static final Texture mobsTexture = new Texture("assets/mobs.png");
+    private static final int PAGE_SIZE = 1024;
 
     /**
-     * Objects source.
+     * The packer holding the pixels of the atlas pages.
      */
-    public static final Texture objectsTexture = new Texture("assets/objects.png");
+    private static PixmapPacker packer;
 
     /**
-     * Things source.
+     * The atlas of all world sprites, packed when the first region is acquired.
      */
-    public static final Texture thingsTexture = new Texture("assets/things.png");
+    private static TextureAtlas atlas;
 
+    /**
+     * The number of references to the atlas, through its regions or {@link #acquireAtlas()}.
+     */
+    private static int atlasReferences;
+
+    /**
+     * The loaded textures that are not part of the atlas, by their path.
+     */
+    private static final ObjectMap<String, TextureRegion> textures = new ObjectMap<>();
+
+    /**
+     * The number of holders of every acquired region or texture, by its name or path.
+     */
+    private static final ObjectIntMap<String> references = new ObjectIntMap<>();
+
+
+    /**
+     * Acquires a region of the atlas by the name of its source image, or the whole texture of an image outside the atlas
+     * by its path, loading it if nobody holds it yet. Must be called on the rendering thread.
+     * Frames within a sprite sheet are cut out with {@code new TextureRegion(region, x, y, width, height)},
+     * whose coordinates are relative to the region.
+     *
+     * @param name The name of the region, e.g. {@code "objects"}, or the path of an image outside the atlas.
+     * @return The region, valid until it is released.
+     */
+    public static TextureRegion acquire(String name) {
+        TextureRegion region;
+        if (isPacked(name)) {
+            region = acquireAtlas().findRegion(name);
+        } else {
+            region = textures.get(name);
+            if (region == null) {
+                region = new TextureRegion(new Texture(Gdx.files.internal(name)));
+                textures.put(name, region);
+            }
+        }
+        references.getAndIncrement(name, 0, 1);
+        return region;
+    }
+
+    /**
+     * Releases a region or texture acquired with {@link #acquire(String)}.
+     * Frees the texture, or the atlas, once its last holder has released it.
+     *
+     * @param name The name or path it was acquired with.
+     */
+    public static void release(String name) {
+        int count = references.get(name, 0);
+        if (count == 0) {
+            Gdx.app.error("TextureManager", "Released " + name + " more often than it was acquired");
+            return;
+        }
+        if (count > 1) {
+            references.put(name, count - 1);
+        } else {
+            references.remove(name, 0);
+        }
+        if (isPacked(name)) {
+            releaseAtlas();
+        } else if (count == 1) {
+            textures.remove(name).getTexture().dispose();
+        }
+    }
+
+    /**
+     * Acquires the atlas as a whole, packing it if nobody holds it yet. Held by the game for its whole run,
+     * so the atlas is not packed and uploaded again whenever all entities of a level are disposed.
+     *
+     * @return The atlas, valid until it is released with {@link #releaseAtlas()}.
+     */
+    public static TextureAtlas acquireAtlas() {
+        if (atlas == null) {
+            pack();
+        }
+        atlasReferences++;
+        return atlas;
+    }
+
+    /**
+     * Releases the atlas acquired with {@link #acquireAtlas()}, freeing it once nothing holds it anymore.
+     */
+    public static void releaseAtlas() {
+        if (atlasReferences == 0) {
+            Gdx.app.error("TextureManager", "Released the texture atlas more often than it was acquired");
+            return;
+        }
+        atlasReferences--;
+        if (atlasReferences == 0) {
+            disposeAtlas();
+        }
+    }
+
+    private static boolean isPacked(String name) {
+        for (int i = 0; i < SOURCES.length; i++) {
+            if (SOURCES[i][0].equals(name)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Packs all source images into the atlas.
+     */
+    private static void pack() {
+        packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 2, false);
+        for (int i = 0; i < SOURCES.length; i++) {
+            Pixmap pixmap = new Pixmap(Gdx.files.internal(SOURCES[i][1]));
+            packer.pack(SOURCES[i][0], pixmap);
+            pixmap.dispose();
+        }
+        atlas = packer.generateTextureAtlas(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+    }
+
+    private static void disposeAtlas() {
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+        if (packer != null) {
+            packer.dispose();
+            packer = null;
+        }
+    }
 
     /**
-     * Disposes of the sources.
+     * Frees everything still loaded when the game shuts down, reporting what was never released.
      */
     public static void dispose() {
-        basictilesTexture.dispose();
-        characterTexture.dispose();
-        mobsTexture.dispose();
-        objectsTexture.dispose();
-        thingsTexture.dispose();
+        for (ObjectIntMap.Entry<String> entry : references) {
+            Gdx.app.log("TextureManager", entry.key + " still held " + entry.value + " time(s) at shutdown");
+        }
+        references.clear();
+        for (TextureRegion texture : textures.values()) {
+            texture.getTexture().dispose();
+        }
+        textures.clear();
+        atlasReferences = 0;
+        disposeAtlas();
     }
 }
@@ -0,0 +1,79 @@
+package de.tum.cit.fop.maze.world;
+
+import java.util.Arrays;
+
+/**
+ * The raw tile values of a level as read from its map file, one byte per tile.
+ * Tiles missing from the file hold {@link #EMPTY}. Grids are immutable, so loaded levels can be shared.
+ */
+public class TileGrid {
+
+    /**
+     * The value of tiles that are not defined in the map file.
+     */
+    public static final int EMPTY = -1;
+
+    /**
+     * Constructor for class {@code TileGrid}. All tiles are empty.
+     *
+     * @param width  The width of the level in tiles.
+     * @param height The height of the level in tiles.
+     */
+    public TileGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.tiles = new byte[width * height];
+        Arrays.fill(tiles, (byte) EMPTY);
+    }
+
+    /**
+     * Constructor for class {@code TileGrid} wrapping already parsed tiles.
+     *
+     * @param width  The width of the level in tiles.
+     * @param height The height of the level in tiles.
+     * @param tiles  The tile values, row by row. The array is used directly, not copied.
+     */
+    TileGrid(int width, int height, byte[] tiles) {
+        this.width = width;
+        this.height = height;
+        this.tiles = tiles;
+    }
+
+    /**
+     * The width of the level in tiles.
+     */
+    private final int width;
+
+    /**
+     * The height of the level in tiles.
+     */
+    private final int height;
+
+    /**
+     * The tile values, row by row.
+     */
+    private final byte[] tiles;
+
+
+    /**
+     * Gets the value of a tile.
+     *
+     * @param x The x coordinate of the tile.
+     * @param y The y coordinate of the tile.
+     * @return The value, or {@link #EMPTY} for tiles outside the level.
+     */
+    public int get(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return EMPTY;
+        }
+        return tiles[y * width + x];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,17 @@
+package de.tum.cit.fop.maze.world;
+
+/**
+ * A listener notified whenever a tile of the map switches between solid and passable,
+ * e.g. when a door locks or unlocks.
+ */
+public interface TileStateListener {
+
+    /**
+     * Called after the state of a tile has changed.
+     *
+     * @param x     The x coordinate of the tile.
+     * @param y     The y coordinate of the tile.
+     * @param solid True if the tile blocks movement now.
+     */
+    void onTileChanged(int x, int y, boolean solid);
+}
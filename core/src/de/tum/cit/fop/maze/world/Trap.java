@@ -1,9 +1,6 @@
 package de.tum.cit.fop.maze.world;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 
@@ -28,9 +25,14 @@ public void activate() {
     }
 
     /**
-     * The texture used for rendering.
+     * The sprite sheet region of the atlas the frames are cut from.
      */
-    private static Texture texture;
+    private static TextureRegion texture;
+
+    /**
+     * Whether this trap holds a reference to its texture in the {@link TextureManager}.
+     */
+    private boolean holdsTexture;
 
     /**
      * The animation of the trap.
@@ -55,11 +57,13 @@ public void update(float delta) {
 
 
     /**
-     * Loads the texture and animation frames for the trap.
+     * Acquires the texture and cuts the animation frames for the trap unless they were cut from the same atlas before.
      */
     private void loadTexturesAndAnimations() {
-        if (texture == null) {
-            texture = new Texture(Gdx.files.internal("assets/objects.png"));
+        TextureRegion sheet = TextureManager.acquire("objects");
+        holdsTexture = true;
+        if (sheet != texture) {
+            texture = sheet;
 
             Array<TextureRegion> frames = new Array<>();
             for (int i = 4; i < 10; i++) {
@@ -73,23 +77,22 @@ private void loadTexturesAndAnimations() {
     /**
      * Renders the trap using the animation.
      *
-     * @param batch The {@code SpriteBatch} used for rendering.
+     * @param queue The {@code RenderQueue} the sprite is submitted to.
      */
-    public void render(SpriteBatch batch) {
+    public void render(RenderQueue queue) {
         if (!isActive()) return;
         TextureRegion currentFrame = trapAnimation.getKeyFrame(stateTime, true);
-        batch.draw(currentFrame, x * 32, y * 32, 32, 32);
+        queue.submit(RenderQueue.LAYER_TILES, currentFrame, x * 32, y * 32, 32, 32);
     }
 
     /**
-     * Disposes of the texture to free resources.
+     * Releases the texture. The frames are kept for other traps until the atlas is packed again.
      */
     @Override
     public void dispose() {
-        if (texture != null) {
-            texture.dispose();
-            texture = null;
-            trapAnimation = null;
+        if (holdsTexture) {
+            TextureManager.release("objects");
+            holdsTexture = false;
         }
     }
 }
@@ -1,14 +1,10 @@
 package de.tum.cit.fop.maze.world;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 public class Wall extends MapElement {
 
-    private static Texture texture;
-    private static TextureRegion wallRegion;
+    private TextureRegion wallRegion;
 
     public Wall(float x, float y) {
         super(x, y);
@@ -17,28 +13,19 @@ public Wall(float x, float y) {
     }
 
     private void loadTextures() {
-        if (texture == null) {
-            texture = new Texture(Gdx.files.internal("assets/wall.png"));
-
-            wallRegion = new TextureRegion(texture);
-        }
+        wallRegion = TextureManager.acquire("wall");
     }
 
-    public void render(SpriteBatch batch, GameMap maze) {
-        batch.draw(wallRegion, x * 32, y * 32, 32, 32);
-    }
-
-
     @Override
-    public void render(SpriteBatch batch) {
-        batch.draw(wallRegion, x * 32, y * 32, 32, 32);
+    public void render(RenderQueue queue) {
+        queue.submit(RenderQueue.LAYER_TILES, wallRegion, x * 32, y * 32, 32, 32);
     }
 
     @Override
     public void dispose() {
-        if (texture != null) {
-            texture.dispose();
-            texture = null;
+        if (wallRegion != null) {
+            TextureManager.release("wall");
+            wallRegion = null;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import de.tum.cit.fop.maze.world.GameCharacter;
+import de.tum.cit.fop.maze.world.GameMap;
+import de.tum.cit.fop.maze.world.TextureManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that a frame of a running level does not allocate once it has warmed up:
+ * neither updating the game through {@link GameManager#update(float)} nor drawing the map through {@link GameMap#render}.
+ * The levels run on the headless backend with an OpenGL that does nothing, see {@link NoOpGL20}.
+ * <p>
+ * The build runs this test in the interpreter ({@code -Xint}): there every allocation of the code is counted,
+ * none is removed by escape analysis, and the compiler adds none of its own.
+ */
+public class FrameAllocationTest {
+
+    /**
+     * The levels that are played.
+     */
+    private static final String[] LEVELS = {"maps/level-1.properties", "maps/level-4.properties"};
+
+    /**
+     * Number of frames every level is played for before any level is measured, so the common code paths have run once.
+     */
+    private static final int WARM_UP_FRAMES = 3000;
+
+    /**
+     * Number of frames at the start of a measured run that may allocate (loading the chunks around the player).
+     */
+    private static final int SETTLE_FRAMES = 60;
+
+    /**
+     * Number of measured frames.
+     */
+    private static final int MEASURED_FRAMES = 1200;
+
+    /**
+     * Number of times a level is measured before its allocations fail the test. A code path that runs for the first
+     * time may allocate once, for example to resolve a string constant; garbage of the frame shows up in every run.
+     */
+    private static final int MEASUREMENTS = 3;
+
+    private static final float DELTA = 1 / 60f;
+
+    /**
+     * Marks a frame that loaded a class. Enemies walk at random, so a rare code path may run for the first time
+     * while measuring; the class loading it does belongs to the warm-up, not to the frame.
+     */
+    private static final long LOADED_CLASS = -1;
+
+    private static HeadlessApplication application;
+
+    private static com.sun.management.ThreadMXBean threadBean;
+
+    private static ClassLoadingMXBean classLoadingBean;
+
+    @BeforeAll
+    static void startApplication() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;
+        application = new HeadlessApplication(new ApplicationAdapter() {
+        }, config);
+        Gdx.gl = Gdx.gl20 = new NoOpGL20();
+        TextureManager.acquireAtlas();
+
+        threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threadBean.isThreadAllocatedMemorySupported(), "The JVM cannot measure allocations per thread");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        classLoadingBean = ManagementFactory.getClassLoadingMXBean();
+
+        for (int i = 0; i < LEVELS.length; i++) {
+            play(LEVELS[i], WARM_UP_FRAMES);
+        }
+    }
+
+    @AfterAll
+    static void stopApplication() {
+        TextureManager.releaseAtlas();
+        TextureManager.dispose();
+        application.exit();
+    }
+
+    static String[] levels() {
+        return LEVELS;
+    }
+
+    @ParameterizedTest
+    @MethodSource("levels")
+    void frameDoesNotAllocate(String mapLevel) {
+        long total = 0;
+        int allocatingFrames = 0;
+        for (int measurement = 0; measurement < MEASUREMENTS; measurement++) {
+            long[] allocated = play(mapLevel, SETTLE_FRAMES + MEASURED_FRAMES);
+            total = 0;
+            allocatingFrames = 0;
+            for (int frame = SETTLE_FRAMES; frame < allocated.length; frame++) {
+                if (allocated[frame] > 0 && allocated[frame] != LOADED_CLASS) {
+                    total += allocated[frame];
+                    allocatingFrames++;
+                }
+            }
+            if (total == 0) {
+                return;
+            }
+        }
+        assertEquals(0, total, allocatingFrames + " of " + MEASURED_FRAMES + " frames allocated in the last of "
+                + MEASUREMENTS + " runs");
+    }
+
+    /**
+     * Plays a level without input, the way the game screen runs a frame, and measures every frame.
+     *
+     * @param mapLevel The map file of the level.
+     * @param frames   The number of frames to play.
+     * @return The bytes allocated by every frame, or {@link #LOADED_CLASS} for a frame that loaded a class.
+     */
+    private static long[] play(String mapLevel, int frames) {
+        LevelLoader loader = new LevelLoader(mapLevel);
+        LevelLoader.LoadedLevel level = loader.get();
+        loader.dispose();
+        GameScreen screen = new GameScreen(new MazeRunnerGame(null), level, false);
+        GameManager gameManager = screen.getGameManager();
+        GameMap gameMap = screen.getGameMap();
+        GameCharacter player = gameManager.getPlayer();
+        SpriteBatch batch = new SpriteBatch();
+        OrthographicCamera camera = new OrthographicCamera(16 * 32, 9 * 32);
+
+        long[] allocated = new long[frames];
+        for (int frame = 0; frame < frames; frame++) {
+            // Keep the player alive, so the whole run measures a level in play rather than the end screen.
+            player.setHeartsCollected(3);
+            long classes = classLoadingBean.getTotalLoadedClassCount();
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            gameManager.update(DELTA);
+            camera.position.set(player.getX() * 32 + 16, player.getY() * 32 + 16, 0);
+            camera.update();
+            gameMap.setView(camera);
+            gameMap.renderStaticLayer(camera.combined);
+            batch.setProjectionMatrix(camera.combined);
+            batch.begin();
+            gameMap.render(batch, DELTA);
+            batch.end();
+            allocated[frame] = threadBean.getCurrentThreadAllocatedBytes() - before;
+            if (classLoadingBean.getTotalLoadedClassCount() != classes) {
+                allocated[frame] = LOADED_CLASS;
+            }
+        }
+        assertFalse(gameManager.isWin() || gameManager.isLose(), "The level ended while playing " + mapLevel);
+
+        batch.dispose();
+        screen.dispose();
+        return allocated;
+    }
+}
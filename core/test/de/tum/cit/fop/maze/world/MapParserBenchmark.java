@@ -0,0 +1,187 @@
+package de.tum.cit.fop.maze.world;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the streaming {@link MapFileParser} with the line-splitting loader it replaced, on
+ * {@code maps/level-4.properties} and on a generated map of about 10 MB.
+ * Run it through {@code gradlew core:benchmarkMapParser}; it prints the average time per load of both loaders
+ * and fails if they read a different grid.
+ */
+public class MapParserBenchmark {
+
+    private static final String LEVEL = "maps/level-4.properties";
+
+    /**
+     * Width and height of the generated map, about 10 MB of {@code x,y=value} lines.
+     */
+    private static final int SYNTHETIC_SIZE = 1000;
+
+    /**
+     * Minimum time every loader runs for before and while being measured.
+     */
+    private static final long WARM_UP_NANOS = 2_000_000_000L;
+    private static final long MEASURE_NANOS = 3_000_000_000L;
+
+    /**
+     * Keeps the results alive, so the loads cannot be optimized away.
+     */
+    private static long sink;
+
+    public static void main(String[] args) throws IOException {
+        Path synthetic = Files.createTempFile("synthetic-map", ".properties");
+        try {
+            writeSyntheticMap(synthetic, SYNTHETIC_SIZE);
+            compare(Paths.get(LEVEL));
+            compare(synthetic);
+        } finally {
+            Files.deleteIfExists(synthetic);
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    /**
+     * Loads a map with both loaders and prints their times.
+     *
+     * @param path The map file.
+     */
+    private static void compare(Path path) throws IOException {
+        assertSameGrid(path, loadLegacy(path), loadStreaming(path));
+        double legacy = measure(path, true);
+        double streaming = measure(path, false);
+        System.out.printf("%s (%.1f MB): line splitting %.2f ms, streaming %.2f ms, %.1fx faster%n",
+                path.getFileName(), Files.size(path) / 1e6, legacy, streaming, legacy / streaming);
+    }
+
+    /**
+     * Measures the average time one loader needs for a map.
+     *
+     * @param path   The map file.
+     * @param legacy Whether to measure the line-splitting loader instead of the streaming one.
+     * @return The average time per load in milliseconds.
+     */
+    private static double measure(Path path, boolean legacy) throws IOException {
+        run(path, legacy, WARM_UP_NANOS);
+        long start = System.nanoTime();
+        int loads = run(path, legacy, MEASURE_NANOS);
+        return (System.nanoTime() - start) / 1e6 / loads;
+    }
+
+    /**
+     * Loads a map over and over for at least the given time.
+     *
+     * @return The number of loads.
+     */
+    private static int run(Path path, boolean legacy, long nanos) throws IOException {
+        long end = System.nanoTime() + nanos;
+        int loads = 0;
+        do {
+            TileGrid grid = legacy ? loadLegacy(path) : loadStreaming(path);
+            sink += grid.getWidth() + grid.get(grid.getWidth() - 1, grid.getHeight() - 1);
+            loads++;
+        } while (System.nanoTime() < end);
+        return loads;
+    }
+
+    private static TileGrid loadStreaming(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return MapFileParser.parse(in, path.toString());
+        }
+    }
+
+    /**
+     * The loader {@link GameHelper#loadLevelData(String)} used before {@link MapFileParser}:
+     * reads all lines and splits every line into strings.
+     *
+     * @param path The map file.
+     * @return The tile grid.
+     */
+    private static TileGrid loadLegacy(Path path) throws IOException {
+        int[] entries = new int[3 * 1024];
+        int count = 0;
+        int width = 0;
+        int height = 0;
+        List<String> lines = Files.readAllLines(path);
+        for (String line : lines) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            if (line.contains("=")) {
+                String[] parts = line.split("=");
+                if (parts.length == 2) {
+                    String[] xy = parts[0].split(",");
+                    try {
+                        if (xy.length != 2) {
+                            continue;
+                        }
+                        int x = Integer.parseInt(xy[0].trim());
+                        int y = Integer.parseInt(xy[1].trim());
+                        int value = Integer.parseInt(parts[1].trim());
+                        if (x < 0 || y < 0) {
+                            continue;
+                        }
+                        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+                            value = TileGrid.EMPTY;
+                        }
+                        if (count == entries.length) {
+                            entries = Arrays.copyOf(entries, count * 2);
+                        }
+                        entries[count++] = x;
+                        entries[count++] = y;
+                        entries[count++] = value;
+                        width = Math.max(width, x + 1);
+                        height = Math.max(height, y + 1);
+                    } catch (NumberFormatException ignored) {
+                    }
+                }
+            }
+        }
+        byte[] tiles = new byte[width * height];
+        Arrays.fill(tiles, (byte) TileGrid.EMPTY);
+        for (int i = 0; i < count; i += 3) {
+            tiles[entries[i + 1] * width + entries[i]] = (byte) entries[i + 2];
+        }
+        return new TileGrid(width, height, tiles);
+    }
+
+    private static void assertSameGrid(Path path, TileGrid expected, TileGrid actual) {
+        if (expected.getWidth() != actual.getWidth() || expected.getHeight() != actual.getHeight()) {
+            throw new AssertionError(path + ": the loaders read grids of different sizes");
+        }
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if (expected.get(x, y) != actual.get(x, y)) {
+                    throw new AssertionError(path + ": the loaders differ at " + x + "," + y);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a map of walls with scattered traps, enemies and keys, one {@code x,y=value} line per tile.
+     *
+     * @param path The file to write.
+     * @param size The width and height of the map.
+     */
+    private static void writeSyntheticMap(Path path, int size) throws IOException {
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (int y = 0; y < size; y++) {
+                for (int x = 0; x < size; x++) {
+                    int value = random.nextInt(8) == 0 ? 3 + random.nextInt(4) : 0;
+                    writer.write(x + "," + y + "=" + value);
+                    writer.newLine();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package de.tum.cit.fop.maze.world;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Measures {@link HierarchicalPathfinder} on generated 1023x1023 mazes: a perfect maze, where every two tiles are
+ * joined by exactly one path, and a braided one with some walls knocked out so paths have alternatives.
+ * Run it through {@code gradlew core:benchmarkPathfinder}. For every maze it prints the build time,
+ * the time of cold queries between random tiles (a new target and a start that is not cached) by the length of
+ * the path, and the time of door changes. Every path is walked, and some are checked against a {@link DistanceField}.
+ */
+public class PathfinderBenchmark {
+
+    /**
+     * The width and height of the mazes; odd, so the maze has walls all around.
+     */
+    private static final int SIZE = 1023;
+
+    /**
+     * The share of inner walls knocked out of the braided maze.
+     */
+    private static final float BRAID = 0.1f;
+
+    private static final int WARM_UP_QUERIES = 2000;
+    private static final int QUERIES = 2000;
+
+    /**
+     * The number of queries whose paths are walked and compared with the shortest path.
+     */
+    private static final int CHECKED_QUERIES = 100;
+
+    private static final int DOOR_CHANGES = 200;
+
+    /**
+     * The upper bounds of the path lengths the cold queries are grouped by.
+     */
+    private static final int[] PATH_LENGTHS = {100, 1000, 10000, Integer.MAX_VALUE};
+
+    public static void main(String[] args) {
+        run("perfect", perfectMaze(SIZE, new Random(1)));
+        CollisionGrid braided = perfectMaze(SIZE, new Random(2));
+        braid(braided, new Random(3));
+        run("braided", braided);
+    }
+
+    private static void run(String name, CollisionGrid grid) {
+        int[] open = openTiles(grid);
+        Random random = new Random(4);
+
+        long buildStart = System.nanoTime();
+        HierarchicalPathfinder pathfinder = new HierarchicalPathfinder(grid);
+        double build = (System.nanoTime() - buildStart) / 1e6;
+
+        int[] lengths = new int[QUERIES];
+        for (int i = 0; i < WARM_UP_QUERIES; i++) {
+            coldQuery(grid, pathfinder, open, random, lengths, 0);
+        }
+        double[] queries = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = coldQuery(grid, pathfinder, open, random, lengths, i);
+        }
+
+        double[] closing = new double[DOOR_CHANGES];
+        double[] opening = new double[DOOR_CHANGES];
+        for (int i = 0; i < DOOR_CHANGES; i++) {
+            int tile = open[random.nextInt(open.length)];
+            long start = System.nanoTime();
+            grid.setSolid(tile % SIZE, tile / SIZE, true);
+            closing[i] = (System.nanoTime() - start) / 1e6;
+            start = System.nanoTime();
+            grid.setSolid(tile % SIZE, tile / SIZE, false);
+            opening[i] = (System.nanoTime() - start) / 1e6;
+        }
+
+        double stretch = checkPaths(grid, pathfinder, open, random);
+        grid.removeListener(pathfinder);
+
+        System.out.printf("%s %dx%d: build %.0f ms%n", name, SIZE, SIZE, build);
+        int from = 0;
+        for (int b = 0; b < PATH_LENGTHS.length; b++) {
+            double[] bucket = new double[QUERIES];
+            int count = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                if (lengths[i] > from && lengths[i] <= PATH_LENGTHS[b]) bucket[count++] = queries[i];
+            }
+            String to = PATH_LENGTHS[b] == Integer.MAX_VALUE ? "" : String.valueOf(PATH_LENGTHS[b]);
+            System.out.printf("  cold query, path of %d-%s tiles, %d queries: %s%n",
+                    from + 1, to, count, count == 0 ? "-" : summary(Arrays.copyOf(bucket, count)));
+            from = PATH_LENGTHS[b];
+        }
+        System.out.printf("  cold query, all: %s%n", summary(queries));
+        System.out.printf("  closing a door: %s%n", summary(closing));
+        System.out.printf("  opening a door: %s%n", summary(opening));
+        System.out.printf("  path length over shortest path after the door changes: %.3f on average over %d paths%n",
+                stretch, CHECKED_QUERIES);
+    }
+
+    /**
+     * Sets a random target and asks for the first step from a random tile, then walks the path.
+     *
+     * @param lengths Receives the length of the path.
+     * @param query   The index of the query in {@code lengths}.
+     * @return The time of the query in milliseconds.
+     */
+    private static double coldQuery(CollisionGrid grid, HierarchicalPathfinder pathfinder, int[] open, Random random,
+                                    int[] lengths, int query) {
+        int goal = open[random.nextInt(open.length)];
+        int start = open[random.nextInt(open.length)];
+        long begin = System.nanoTime();
+        pathfinder.setTarget(goal % SIZE, goal / SIZE);
+        pathfinder.nextStep(start % SIZE, start / SIZE);
+        double millis = (System.nanoTime() - begin) / 1e6;
+        lengths[query] = walk(grid, pathfinder, start, goal);
+        return millis;
+    }
+
+    /**
+     * Follows the steps of the pathfinder from a start tile to the target and checks every step.
+     *
+     * @return The number of steps.
+     */
+    private static int walk(CollisionGrid grid, HierarchicalPathfinder pathfinder, int start, int goal) {
+        int steps = 0;
+        for (int tile = start; tile != goal; steps++) {
+            int next = pathfinder.nextStep(tile % SIZE, tile / SIZE);
+            if (next < 0 || grid.isSolid(next % SIZE, next / SIZE)
+                    || Math.abs(next % SIZE - tile % SIZE) + Math.abs(next / SIZE - tile / SIZE) != 1
+                    || steps > SIZE * SIZE) {
+                throw new AssertionError("Broken path from " + start + " to " + goal + " at " + tile);
+            }
+            tile = next;
+        }
+        return steps;
+    }
+
+    /**
+     * Walks the paths between random tiles and compares their lengths with the shortest paths.
+     *
+     * @return The average ratio of walked to shortest length.
+     */
+    private static double checkPaths(CollisionGrid grid, HierarchicalPathfinder pathfinder, int[] open, Random random) {
+        DistanceField field = new DistanceField(grid);
+        double stretch = 0;
+        for (int i = 0; i < CHECKED_QUERIES; i++) {
+            int goal = open[random.nextInt(open.length)];
+            int start = open[random.nextInt(open.length)];
+            while (start == goal) {
+                start = open[random.nextInt(open.length)];
+            }
+            field.setTarget(goal % SIZE, goal / SIZE);
+            pathfinder.setTarget(goal % SIZE, goal / SIZE);
+            int shortest = field.getDistance(start % SIZE, start / SIZE);
+            stretch += (double) walk(grid, pathfinder, start, goal) / shortest;
+        }
+        grid.removeListener(field);
+        return stretch / CHECKED_QUERIES;
+    }
+
+    private static String summary(double[] millis) {
+        double[] sorted = millis.clone();
+        Arrays.sort(sorted);
+        double mean = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            mean += sorted[i];
+        }
+        mean /= sorted.length;
+        return String.format("mean %.3f ms, median %.3f ms, p99 %.3f ms, max %.3f ms",
+                mean, sorted[sorted.length / 2], sorted[sorted.length * 99 / 100], sorted[sorted.length - 1]);
+    }
+
+    /**
+     * Carves a perfect maze with a randomized depth-first search. Tiles with two odd coordinates are rooms,
+     * the tiles between two rooms are walls or passages.
+     */
+    private static CollisionGrid perfectMaze(int size, Random random) {
+        CollisionGrid grid = new CollisionGrid(size, size);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                grid.setSolid(x, y, true);
+            }
+        }
+        int rooms = size / 2;
+        boolean[] visited = new boolean[rooms * rooms];
+        int[] stack = new int[rooms * rooms];
+        int[] directions = new int[4];
+        int depth = 0;
+        stack[depth++] = 0;
+        visited[0] = true;
+        grid.setSolid(1, 1, false);
+        while (depth > 0) {
+            int room = stack[depth - 1];
+            int rx = room % rooms;
+            int ry = room / rooms;
+            int count = 0;
+            if (rx > 0 && !visited[room - 1]) directions[count++] = room - 1;
+            if (rx < rooms - 1 && !visited[room + 1]) directions[count++] = room + 1;
+            if (ry > 0 && !visited[room - rooms]) directions[count++] = room - rooms;
+            if (ry < rooms - 1 && !visited[room + rooms]) directions[count++] = room + rooms;
+            if (count == 0) {
+                depth--;
+                continue;
+            }
+            int next = directions[random.nextInt(count)];
+            visited[next] = true;
+            int nx = next % rooms;
+            int ny = next / rooms;
+            grid.setSolid(rx + nx + 1, ry + ny + 1, false);
+            grid.setSolid(2 * nx + 1, 2 * ny + 1, false);
+            stack[depth++] = next;
+        }
+        return grid;
+    }
+
+    /**
+     * Knocks out a share of the inner walls between two rooms.
+     */
+    private static void braid(CollisionGrid grid, Random random) {
+        int size = grid.getWidth();
+        for (int y = 1; y < size - 1; y++) {
+            for (int x = 1; x < size - 1; x++) {
+                if ((x + y) % 2 == 1 && grid.isSolid(x, y) && random.nextFloat() < BRAID) {
+                    grid.setSolid(x, y, false);
+                }
+            }
+        }
+    }
+
+    private static int[] openTiles(CollisionGrid grid) {
+        int size = grid.getWidth();
+        int[] open = new int[size * size];
+        int count = 0;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (!grid.isSolid(x, y)) {
+                    open[count++] = y * size + x;
+                }
+            }
+        }
+        return Arrays.copyOf(open, count);
+    }
+}